@@ -0,0 +1,276 @@
+package org.xpertss.unit;
+
+import org.xpertss.unit.converters.AffineConverter;
+import xpertss.measure.Dimension;
+import xpertss.measure.IncommensurableException;
+import xpertss.measure.Unit;
+import xpertss.measure.UnconvertibleException;
+import xpertss.measure.UnitConverter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A precomputed table of {@code double} conversions between any two of a fixed set of
+ * units.
+ * <p/>
+ * Each unit is assigned a compact id, its index within the table. Units are grouped by
+ * {@link Unit#getDimension() dimension} when the table is built, conversions between
+ * units of different groups are rejected. For every pair of compatible affine units the
+ * coefficients of {@code x -> factor * x + offset} are stored in flat primitive arrays,
+ * hence a conversion is a couple of array reads. Non-affine (e.g. logarithmic) units
+ * convert through their compiled converter to the reference unit of their group.
+ * <p/>
+ * Tables are immutable and thread safe.
+ */
+public final class ConversionTable {
+
+   private final Unit<?>[] units;
+   private final Map<Unit<?>, Integer> ids;
+   private final int[] groups;
+
+   // coefficients indexed by (from * size + to), factor is NaN if the pair is not affine
+   private final double[] factors;
+   private final double[] offsets;
+
+   // per unit compiled conversions to and from the reference unit of its group
+   private final DoubleUnaryOperator[] toReference;
+   private final DoubleUnaryOperator[] fromReference;
+
+   private ConversionTable(Unit<?>[] units)
+   {
+      final int size = units.length;
+      this.units = units;
+      this.ids = new HashMap<>(size * 2);
+      this.groups = new int[size];
+      this.toReference = new DoubleUnaryOperator[size];
+      this.fromReference = new DoubleUnaryOperator[size];
+      final double[][] coefficients = new double[size][];
+
+      final Map<Dimension, Integer> references = new HashMap<>();
+      for(int id = 0; id < size; id++) {
+         final Unit<?> unit = units[id];
+         ids.put(unit, id);
+         final Integer reference = references.putIfAbsent(unit.getDimension(), id);
+         groups[id] = (reference == null) ? id : reference;
+         final UnitConverter converter = converterTo(unit, units[groups[id]]);
+         coefficients[id] = AffineConverter.coefficientsOf(converter);
+         toReference[id] = converter.toDoubleOperator();
+         fromReference[id] = converter.inverse().toDoubleOperator();
+      }
+
+      this.factors = new double[size * size];
+      this.offsets = new double[size * size];
+      Arrays.fill(factors, Double.NaN);
+      for(int from = 0; from < size; from++) {
+         final double[] a = coefficients[from];
+         if(a == null) continue;
+         for(int to = 0; to < size; to++) {
+            final double[] b = coefficients[to];
+            if(b == null || groups[from] != groups[to]) continue;
+            // x -> (a0 * x + a1 - b1) / b0
+            factors[from * size + to] = a[0] / b[0];
+            offsets[from * size + to] = (a[1] - b[1]) / b[0];
+         }
+      }
+   }
+
+   /**
+    * Builds the conversion table for the given units, duplicates are ignored.
+    *
+    * @param units the units of the table
+    * @return the conversion table
+    * @throws UnconvertibleException if the converter to a unit of same dimension cannot
+    *          be constructed
+    */
+   public static ConversionTable of(Collection<? extends Unit<?>> units)
+   {
+      return new ConversionTable(new LinkedHashSet<>(units).toArray(new Unit<?>[0]));
+   }
+
+   /**
+    * Builds the conversion table for the given units, duplicates are ignored.
+    *
+    * @param units the units of the table
+    * @return the conversion table
+    * @throws UnconvertibleException if the converter to a unit of same dimension cannot
+    *          be constructed
+    */
+   public static ConversionTable of(Unit<?>... units)
+   {
+      return of(Arrays.asList(units));
+   }
+
+   /**
+    * Returns the number of units within this table.
+    */
+   public int size()
+   {
+      return units.length;
+   }
+
+   /**
+    * Returns the id of the given unit or {@code -1} if the unit is not within this table.
+    *
+    * @param unit the unit
+    * @return the unit's id
+    */
+   public int idOf(Unit<?> unit)
+   {
+      final Integer id = ids.get(unit);
+      return (id == null) ? -1 : id;
+   }
+
+   /**
+    * Returns the unit having the given id.
+    *
+    * @param id the unit's id
+    * @return the unit
+    * @throws IndexOutOfBoundsException if there is no such unit
+    */
+   public Unit<?> unitOf(int id)
+   {
+      return units[id];
+   }
+
+   /**
+    * Returns the units within this table, ordered by id.
+    */
+   public List<Unit<?>> getUnits()
+   {
+      return new ArrayList<>(Arrays.asList(units));
+   }
+
+   /**
+    * Returns whether values can be converted between the given units, that is whether
+    * they have the same dimension.
+    *
+    * @param from the id of the source unit
+    * @param to the id of the target unit
+    * @return whether the units are compatible
+    * @throws IndexOutOfBoundsException if there is no such unit
+    */
+   public boolean isConvertible(int from, int to)
+   {
+      return groups[from] == groups[to];
+   }
+
+   /**
+    * Converts a value from one unit to another.
+    *
+    * @param from the id of the source unit
+    * @param to the id of the target unit
+    * @param value the value to convert
+    * @return the converted value
+    * @throws UnconvertibleException if the units are not compatible
+    * @throws IndexOutOfBoundsException if there is no such unit
+    */
+   public double convert(int from, int to, double value)
+   {
+      final int index = from * units.length + to;
+      final double factor = factors[index];
+      if(factor == factor) {
+         return value * factor + offsets[index];
+      }
+      checkConvertible(from, to);
+      return fromReference[to].applyAsDouble(toReference[from].applyAsDouble(value));
+   }
+
+   /**
+    * Converts a value from one unit to another.
+    *
+    * @param from the source unit
+    * @param to the target unit
+    * @param value the value to convert
+    * @return the converted value
+    * @throws UnconvertibleException if the units are not compatible
+    * @throws IllegalArgumentException if any of the units is not within this table
+    */
+   public double convert(Unit<?> from, Unit<?> to, double value)
+   {
+      return convert(requireId(from), requireId(to), value);
+   }
+
+   /**
+    * Converts {@code len} values of {@code src}, starting at {@code srcOff}, from one unit
+    * to another and stores the results in {@code dst}, starting at {@code dstOff}. The
+    * ranges may overlap.
+    *
+    * @param from the id of the source unit
+    * @param to the id of the target unit
+    * @param src the values to convert
+    * @param srcOff the offset of the first value to convert
+    * @param dst the destination array
+    * @param dstOff the offset of the first converted value
+    * @param len the number of values to convert
+    * @throws UnconvertibleException if the units are not compatible
+    * @throws IndexOutOfBoundsException if there is no such unit or any range is out of bounds
+    */
+   public void convert(int from, int to, double[] src, int srcOff, double[] dst, int dstOff, int len)
+   {
+      final int index = from * units.length + to;
+      final double factor = factors[index];
+      if(factor != factor) {
+         checkConvertible(from, to);
+      }
+      if(srcOff < 0 || dstOff < 0 || len < 0 || srcOff > src.length - len || dstOff > dst.length - len) {
+         throw new IndexOutOfBoundsException(String.format("src[%d..%d), dst[%d..%d), lengths %d, %d",
+                                 srcOff, srcOff + len, dstOff, dstOff + len, src.length, dst.length));
+      }
+      if(src == dst && srcOff < dstOff && dstOff < srcOff + len) {
+         src = Arrays.copyOfRange(src, srcOff, srcOff + len);
+         srcOff = 0;
+      }
+      if(factor == factor) {
+         final double offset = offsets[index];
+         for(int i = 0; i < len; i++) {
+            dst[dstOff + i] = src[srcOff + i] * factor + offset;
+         }
+      } else {
+         final DoubleUnaryOperator toRef = toReference[from];
+         final DoubleUnaryOperator fromRef = fromReference[to];
+         for(int i = 0; i < len; i++) {
+            dst[dstOff + i] = fromRef.applyAsDouble(toRef.applyAsDouble(src[srcOff + i]));
+         }
+      }
+   }
+
+   @Override
+   public String toString()
+   {
+      return String.format("ConversionTable[size=%d]", units.length);
+   }
+
+   // -- HELPER
+
+   private void checkConvertible(int from, int to)
+   {
+      if(groups[from] != groups[to]) {
+         throw new UnconvertibleException(units[from] + " is not compatible with " + units[to]);
+      }
+   }
+
+   private int requireId(Unit<?> unit)
+   {
+      final int id = idOf(unit);
+      if(id < 0) throw new IllegalArgumentException(unit + " is not within the table");
+      return id;
+   }
+
+   private static UnitConverter converterTo(Unit<?> unit, Unit<?> reference)
+   {
+      try {
+         return unit.getConverterToAny(reference);
+      } catch(IncommensurableException e) {
+         // same dimension, yet not compatible
+         throw new UnconvertibleException(e);
+      }
+   }
+
+}
@@ -0,0 +1,162 @@
+package org.xpertss.unit;
+
+import org.xpertss.unit.math.NumberSystems;
+import org.xpertss.unit.utils.BoundedCache;
+import xpertss.measure.Unit;
+import xpertss.measure.UnitConverter;
+
+/**
+ * Caches the converters between pairs of units, so that converting between the same
+ * units again does not compose the converter all over again.
+ * <p/>
+ * The number of cached unit pairs is bounded by the system property
+ * {@value #CAPACITY_PROPERTY} (default {@value #DEFAULT_CAPACITY}), a value of
+ * {@code 0} disables the cache. Pairs which were not used recently are evicted first.
+ * <p/>
+ * Converters are cached for the default {@link NumberSystems number system} only, the
+ * cache is bypassed while a thread overrides it.
+ */
+public final class ConverterCache {
+
+   /**
+    * The system property holding the maximum number of cached unit pairs.
+    */
+   public static final String CAPACITY_PROPERTY = "xpertss.measure.converterCacheSize";
+
+   /**
+    * The default maximum number of cached unit pairs.
+    */
+   public static final int DEFAULT_CAPACITY = 1024;
+
+   /**
+    * The converter cache used by {@link Unit#getConverterTo(Unit)} and
+    * {@link Unit#getConverterToAny(Unit)}.
+    */
+   public static final ConverterCache INSTANCE = new ConverterCache(Integer.getInteger(CAPACITY_PROPERTY, DEFAULT_CAPACITY));
+
+   private final BoundedCache<UnitPair, UnitConverter> cache;
+
+   ConverterCache(int capacity)
+   {
+      this.cache = new BoundedCache<>(capacity);
+   }
+
+   /**
+    * Returns the cached converter from one unit to the other, or {@code null} if there is
+    * none.
+    *
+    * @param from the source unit
+    * @param to the target unit
+    * @return the cached converter or {@code null}
+    */
+   public UnitConverter get(Unit<?> from, Unit<?> to)
+   {
+      if(!NumberSystems.isDefault()) return null;
+      return cache.get(new UnitPair(from, to));
+   }
+
+   /**
+    * Caches the converter from one unit to the other and returns the converter now cached
+    * for the pair.
+    *
+    * @param from the source unit
+    * @param to the target unit
+    * @param converter the converter from {@code from} to {@code to}
+    * @return the cached converter, which is not necessarily the given one
+    */
+   public UnitConverter put(Unit<?> from, Unit<?> to, UnitConverter converter)
+   {
+      if(!NumberSystems.isDefault()) return converter;
+      return cache.put(new UnitPair(from, to), converter);
+   }
+
+   /**
+    * Removes all cached converters.
+    */
+   public void clear()
+   {
+      cache.clear();
+   }
+
+   /**
+    * Returns the number of cached unit pairs.
+    */
+   public int size()
+   {
+      return cache.size();
+   }
+
+   /**
+    * Returns the maximum number of cached unit pairs.
+    */
+   public int capacity()
+   {
+      return cache.capacity();
+   }
+
+   /**
+    * Returns the number of lookups which found a cached converter.
+    */
+   public long hitCount()
+   {
+      return cache.hitCount();
+   }
+
+   /**
+    * Returns the number of lookups which did not find a cached converter.
+    */
+   public long missCount()
+   {
+      return cache.missCount();
+   }
+
+   /**
+    * Returns the number of unit pairs evicted to stay within the capacity.
+    */
+   public long evictionCount()
+   {
+      return cache.evictionCount();
+   }
+
+   @Override
+   public String toString()
+   {
+      return String.format("ConverterCache[size=%d, capacity=%d, hits=%d, misses=%d, evictions=%d]",
+                              size(), capacity(), hitCount(), missCount(), evictionCount());
+   }
+
+
+   private static final class UnitPair {
+
+      private final Unit<?> from;
+      private final Unit<?> to;
+      private final int hashCode;
+
+      private UnitPair(Unit<?> from, Unit<?> to)
+      {
+         this.from = from;
+         this.to = to;
+         this.hashCode = 31 * from.hashCode() + to.hashCode();
+      }
+
+      @Override
+      public boolean equals(Object obj)
+      {
+         if (this == obj) return true;
+         if (obj instanceof UnitPair) {
+            UnitPair that = (UnitPair) obj;
+            return this.hashCode == that.hashCode
+                     && (this.from == that.from || this.from.equals(that.from))
+                     && (this.to == that.to || this.to.equals(that.to));
+         }
+         return false;
+      }
+
+      @Override
+      public int hashCode()
+      {
+         return hashCode;
+      }
+   }
+
+}
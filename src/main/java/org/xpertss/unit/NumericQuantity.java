@@ -225,6 +225,21 @@ public class NumericQuantity<Q extends Quantity<Q>> implements Quantity<Q> {
       return Quantity.of(convertedValue, anotherUnit, Quantity.Scale.ABSOLUTE);
    }
 
+   @Override
+   public double doubleValue(Unit<Q> anotherUnit)
+   {
+      if (anotherUnit.equals(this.getUnit())) return doubleValue();
+      final UnitConverter converter = this.getUnit().getConverterTo(anotherUnit);
+
+      if (isRelative(this)) {
+         final Number linearFactor = linearFactorOf(converter).orElse(null);
+         if(linearFactor==null)
+            throw unsupportedRelativeScaleConversion(this, anotherUnit);
+         return linearFactor.doubleValue() * doubleValue();
+      }
+      return converter.convert(doubleValue());
+   }
+
    /**
     * Returns a {@code Quantity} that is the multiplicative inverse of this
     * {@code Quantity}, having reciprocal value and reciprocal unit as given by
@@ -10,46 +10,28 @@ import org.xpertss.unit.converters.AbstractConverter;
 import xpertss.measure.Dimension;
 import xpertss.measure.UnitConverter;
 
-import java.util.Map;
-
 public class StandardModel implements DimensionalModel {
 
 
    static final StandardModel INSTANCE = new StandardModel();
 
+   /**
+    * Dimensions are held as exponents of the fundamental dimensions, hence every
+    * dimension already is its own fundamental dimension.
+    */
    @Override
    public Dimension getFundamentalDimension(Dimension dimension)
    {
-      Map<? extends Dimension, Integer> dimensions = dimension.getBaseDimensions();
-      if (dimensions == null) return dimension; // Fundamental dimension.
-      // Dimensional Product.
-      Dimension fundamentalProduct = Dimension.NONE;
-      for (Map.Entry<? extends Dimension, Integer> e : dimensions.entrySet()) {
-         fundamentalProduct = fundamentalProduct.multiply(this.getFundamentalDimension(e.getKey())).pow(e.getValue());
-      }
-      return fundamentalProduct;
+      return dimension;
    }
 
+   /**
+    * All fundamental dimensions are independent in the standard model, the transform
+    * of any product of them is the identity.
+    */
    @Override
    public UnitConverter getDimensionalTransform(Dimension dimension)
    {
-      Map<? extends Dimension, Integer> dimensions = dimension.getBaseDimensions();
-      if (dimensions == null) return AbstractConverter.IDENTITY; // Fundamental dimension.
-      // Dimensional Product.
-      UnitConverter toFundamental = AbstractConverter.IDENTITY;
-      for (Map.Entry<? extends Dimension, Integer> e : dimensions.entrySet()) {
-         UnitConverter cvtr = this.getDimensionalTransform(e.getKey());
-         if (!(cvtr.isLinear()))
-            throw new UnsupportedOperationException("Non-linear dimensional transform");
-         int pow = e.getValue();
-         if (pow < 0) { // Negative power.
-            pow = -pow;
-            cvtr = cvtr.inverse();
-         }
-         for (int j = 0; j < pow; j++) {
-            toFundamental = toFundamental.concatenate(cvtr);
-         }
-      }
-      return toFundamental;
+      return AbstractConverter.IDENTITY;
    }
 }
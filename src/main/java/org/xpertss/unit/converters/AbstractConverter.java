@@ -1,7 +1,10 @@
 package org.xpertss.unit.converters;
 
+import org.xpertss.unit.math.LongMath;
+import org.xpertss.unit.math.NumberSystems;
 import xpertss.measure.UnitConverter;
 import java.util.*;
+import java.util.function.DoubleUnaryOperator;
 
 /**
  * The base class for our {@link UnitConverter} implementations.
@@ -27,6 +30,30 @@ public abstract class AbstractConverter implements UnitConverter, Comparable<Uni
      */
     protected List<? extends UnitConverter> conversionSteps; 
 
+    /**
+     * memorization for inverse, racy single-check idiom
+     */
+    private transient volatile AbstractConverter inverse;
+
+    /**
+     * memorization for toDoubleOperator
+     */
+    private transient DoubleUnaryOperator doubleOperator;
+
+    /**
+     * memorization for affineForm, NOT_AFFINE if this converter has non-affine steps
+     */
+    private transient volatile double[] affineForm;
+
+    private static final double[] NOT_AFFINE = new double[0];
+
+    /**
+     * memorization for exactForm, NOT_EXACT if this converter has no integer-exact form
+     */
+    private transient volatile long[] exactForm;
+
+    private static final long[] NOT_EXACT = new long[0];
+
     /**
      * DefaultQuantityFactory constructor.
      */
@@ -83,11 +110,27 @@ public abstract class AbstractConverter implements UnitConverter, Comparable<Uni
      */
     protected abstract AbstractConverter inverseWhenNotIdentity();
     
+    /**
+     * Returns the inverse of this converter. The inverse is computed once per converter
+     * instance and is linked back to this converter, hence {@code c.inverse().inverse()}
+     * returns {@code c} itself (barring a race between threads inverting the same converter
+     * for the first time, in which case an equal converter may be returned). Inverses are
+     * only memoized for the default {@link NumberSystems number system}.
+     */
     @Override
     public final UnitConverter inverse()
     {
         if(isIdentity()) return this;
-        return inverseWhenNotIdentity();
+        AbstractConverter result = inverse;
+        if(result == null) {
+            result = inverseWhenNotIdentity();
+            // inverses computed under another number system are not shared
+            if(NumberSystems.isDefault()) {
+                if(result.inverse == null && !result.isIdentity()) result.inverse = this;
+                inverse = result;
+            }
+        }
+        return result;
     }
     
     // -- COMPOSITION CONTRACTS (TO BE IMPLEMENTED BY SUB-CLASSES)
@@ -115,6 +158,17 @@ public abstract class AbstractConverter implements UnitConverter, Comparable<Uni
                 String.format("Concrete UnitConverter '%s' does not implement reduce(...).", this)); 
     }
     
+    /**
+     * Non-API
+     * @return the rank of this converter's type within the normal-form order, commuting 
+     * converters of lower rank are placed first (left) by composition; composites and 
+     * unknown converter types rank last
+     */
+    protected int normalFormOrder()
+    {
+        return 99;
+    }
+    
     // -- COMPOSITION INTERFACE IMPLEMENTATION (FINAL)
     
     @Override
@@ -124,9 +178,7 @@ public abstract class AbstractConverter implements UnitConverter, Comparable<Uni
         
         if(converter instanceof AbstractConverter) {
             final AbstractConverter other = (AbstractConverter) converter;
-            return UNIT_COMPOSITION_HANDLER.compose(this, other, 
-                                                AbstractConverter::canReduceWith,
-                                                AbstractConverter::reduce);
+            return UNIT_COMPOSITION_HANDLER.compose(this, other);
         }
         // converter is not a sub-class of AbstractConverter, we do the best we can ...
         if(converter.isIdentity()) return this;
@@ -141,10 +193,16 @@ public abstract class AbstractConverter implements UnitConverter, Comparable<Uni
     public final List<? extends UnitConverter> getConversionSteps()
     {
         if(conversionSteps != null) return conversionSteps;
-        if(this instanceof ConverterPair) {
-            return conversionSteps = ((ConverterPair)this).createConversionSteps();
-        }
-        return conversionSteps = Collections.singletonList(this);
+        return conversionSteps = createConversionSteps();
+    }
+
+    /**
+     * Non-API
+     * @return the steps of this converter, composites return their (flattened) steps
+     */
+    protected List<? extends UnitConverter> createConversionSteps()
+    {
+        return Collections.singletonList(this);
     }
     
     // -- CONVERSION CONTRACTS (TO BE IMPLEMENTED BY SUB-CLASSES)
@@ -170,7 +228,215 @@ public abstract class AbstractConverter implements UnitConverter, Comparable<Uni
             throw new IllegalArgumentException("Value cannot be null");
         return convertWhenNotIdentity(value);
     }
+
+    /**
+     * Non-API
+     * <p>
+     * Converts a {@code double} value. The default implementation boxes the value and
+     * delegates to {@link #convertWhenNotIdentity(Number)}, sub-classes are expected to
+     * override this with a primitive implementation.
+     * </p>
+     * @param value
+     * @return transformed value
+     */
+    protected double convertWhenNotIdentity(double value)
+    {
+        return convertWhenNotIdentity((Number) value).doubleValue();
+    }
+
+    /**
+     * Non-API
+     * <p>
+     * Converts a {@code long} value, rounding the result to the closest {@code long}. The
+     * default implementation rounds the result of {@link #convertWhenNotIdentity(double)},
+     * hence is limited to {@code double} precision; integer-exact converters override it.
+     * </p>
+     * @param value
+     * @return transformed value
+     * @throws ArithmeticException if the result does not fit into a {@code long}
+     */
+    protected long convertWhenNotIdentity(long value)
+    {
+        return LongMath.round(convertWhenNotIdentity((double) value));
+    }
+
+    /**
+     * Non-API
+     * <p>
+     * Converts a {@code long} value exactly. The default implementation converts the boxed
+     * value and checks the result, integer-exact converters override it.
+     * @param value
+     * @return transformed value
+     * @throws ArithmeticException if the result is not an integer or does not fit into a {@code long}
+     */
+    protected long convertExactWhenNotIdentity(long value)
+    {
+        return LongMath.toLongExact(convertWhenNotIdentity((Number) value));
+    }
+
+    @Override
+    public final double convert(double value)
+    {
+        if(isIdentity()) return value;
+        return convertWhenNotIdentity(value);
+    }
+
+    @Override
+    public final long convertToLong(long value)
+    {
+        if(isIdentity()) return value;
+        return convertWhenNotIdentity(value);
+    }
+
+    @Override
+    public final long convertExact(long value)
+    {
+        if(isIdentity()) return value;
+        return convertExactWhenNotIdentity(value);
+    }
+
+    /**
+     * Non-API
+     * <p>
+     * Converts {@code len} values of {@code src} into {@code dst}. Bounds are already
+     * checked and the ranges are either identical or do not overlap. The default
+     * implementation converts element by element using {@link #convertWhenNotIdentity(double)}.
+     * </p>
+     */
+    protected void convertWhenNotIdentity(double[] src, int srcOff, double[] dst, int dstOff, int len)
+    {
+        for(int i = 0; i < len; i++) {
+            dst[dstOff + i] = convertWhenNotIdentity(src[srcOff + i]);
+        }
+    }
+
+    /**
+     * Non-API
+     * <p>
+     * Converts {@code len} values of {@code src} into {@code dst}, using {@code double}
+     * arithmetic. Bounds are already checked and the ranges are either identical or do
+     * not overlap.
+     * </p>
+     */
+    protected void convertWhenNotIdentity(float[] src, int srcOff, float[] dst, int dstOff, int len)
+    {
+        for(int i = 0; i < len; i++) {
+            dst[dstOff + i] = (float) convertWhenNotIdentity((double) src[srcOff + i]);
+        }
+    }
+
+    /**
+     * Non-API
+     * <p>
+     * Converts {@code len} values of {@code src} into {@code dst}. Bounds are already
+     * checked and the ranges are either identical or do not overlap. The default
+     * implementation converts element by element using {@link #convertWhenNotIdentity(long)}.
+     * </p>
+     */
+    protected void convertWhenNotIdentity(long[] src, int srcOff, long[] dst, int dstOff, int len)
+    {
+        for(int i = 0; i < len; i++) {
+            dst[dstOff + i] = convertWhenNotIdentity(src[srcOff + i]);
+        }
+    }
+
+    @Override
+    public final void convert(double[] src, int srcOff, double[] dst, int dstOff, int len)
+    {
+        checkRanges(src.length, srcOff, dst.length, dstOff, len);
+        if(isIdentity()) {
+            System.arraycopy(src, srcOff, dst, dstOff, len);
+            return;
+        }
+        if(src == dst && overlaps(srcOff, dstOff, len)) {
+            // copy in place first, then convert in place
+            System.arraycopy(src, srcOff, dst, dstOff, len);
+            srcOff = dstOff;
+        }
+        convertWhenNotIdentity(src, srcOff, dst, dstOff, len);
+    }
+
+    @Override
+    public final void convert(float[] src, int srcOff, float[] dst, int dstOff, int len)
+    {
+        checkRanges(src.length, srcOff, dst.length, dstOff, len);
+        if(isIdentity()) {
+            System.arraycopy(src, srcOff, dst, dstOff, len);
+            return;
+        }
+        if(src == dst && overlaps(srcOff, dstOff, len)) {
+            // copy in place first, then convert in place
+            System.arraycopy(src, srcOff, dst, dstOff, len);
+            srcOff = dstOff;
+        }
+        convertWhenNotIdentity(src, srcOff, dst, dstOff, len);
+    }
+
+    @Override
+    public final void convert(long[] src, int srcOff, long[] dst, int dstOff, int len)
+    {
+        checkRanges(src.length, srcOff, dst.length, dstOff, len);
+        if(isIdentity()) {
+            System.arraycopy(src, srcOff, dst, dstOff, len);
+            return;
+        }
+        if(src == dst && overlaps(srcOff, dstOff, len)) {
+            // copy in place first, then convert in place
+            System.arraycopy(src, srcOff, dst, dstOff, len);
+            srcOff = dstOff;
+        }
+        convertWhenNotIdentity(src, srcOff, dst, dstOff, len);
+    }
+
+    /**
+     * Returns a primitive {@code double} function equivalent to this converter, with all
+     * multiply and add steps fused into a single {@code a * x + b} operation. The function
+     * is compiled once per converter instance.
+     */
+    @Override
+    public final DoubleUnaryOperator toDoubleOperator()
+    {
+        DoubleUnaryOperator operator = doubleOperator;
+        if(operator == null) {
+            // benign race, compiling is idempotent and the operator is immutable
+            doubleOperator = operator = ConverterCompiler.compile(this);
+        }
+        return operator;
+    }
     
+    /**
+     * Non-API
+     * @return the coefficients {@code [factor, offset]} of the {@code x -> factor * x + offset}
+     * transformation equivalent to this converter, or {@code null} if it has non-affine steps.
+     * The array is computed once and shared, it must not be modified.
+     */
+    final double[] affineForm()
+    {
+        double[] affine = affineForm;
+        if(affine == null) {
+            affine = ConverterCompiler.affineForm(this);
+            affineForm = affine = (affine == null) ? NOT_AFFINE : affine;
+        }
+        return (affine == NOT_AFFINE) ? null : affine;
+    }
+
+    /**
+     * Non-API
+     * @return the terms {@code [dividend, divisor, offset]} of the integer-exact
+     * {@code x -> x * dividend / divisor + offset} transformation equivalent to this
+     * converter, or {@code null} if there is none. The array is computed once and shared,
+     * it must not be modified.
+     */
+    final long[] exactForm()
+    {
+        long[] exact = exactForm;
+        if(exact == null) {
+            exact = ConverterCompiler.exactForm(this);
+            exactForm = exact = (exact == null) ? NOT_EXACT : exact;
+        }
+        return (exact == NOT_EXACT) ? null : exact;
+    }
+
     /**
      * Even though transformations may be composed of addition and multiplication, the first
      * derivative might just be a linear function. This is strictly required for Quantities that 
@@ -188,7 +454,21 @@ public abstract class AbstractConverter implements UnitConverter, Comparable<Uni
         return Optional.empty();
     }
 
+    // -- HELPER
 
+    private static void checkRanges(int srcLength, int srcOff, int dstLength, int dstOff, int len)
+    {
+        if(len < 0 || srcOff < 0 || dstOff < 0 || srcOff > srcLength - len || dstOff > dstLength - len) {
+            throw new IndexOutOfBoundsException(String.format(
+                    "Range [%d, %d + %d) out of bounds for length %d or range [%d, %d + %d) out of bounds for length %d",
+                    srcOff, srcOff, len, srcLength, dstOff, dstOff, len, dstLength));
+        }
+    }
+
+    private static boolean overlaps(int srcOff, int dstOff, int len)
+    {
+        return srcOff != dstOff && Math.abs(srcOff - dstOff) < len;
+    }
 
 
 
@@ -221,6 +501,11 @@ public abstract class AbstractConverter implements UnitConverter, Comparable<Uni
             return 0;
         }
 
+        @Override
+        protected int normalFormOrder() {
+            return 0;
+        }
+
         @Override
         public boolean isLinear() {
             return true;
@@ -16,6 +16,13 @@ public final class AddConverter extends AbstractConverter {
    */
   private final Number offset;
 
+  /**
+   * Holds the primitive forms of the offset, {@code longExact} is set when the offset
+   * is an integral value fitting into a long.
+   */
+  private final double doubleOffset;
+  private final boolean longExact;
+
   /**
    * Creates an additive converter having the specified offset.
    *
@@ -25,6 +32,9 @@ public final class AddConverter extends AbstractConverter {
   public AddConverter(Number offset)
   {
     this.offset = NumberSystem.current().narrow(offset);
+    this.doubleOffset = this.offset.doubleValue();
+    this.longExact = this.offset instanceof Long || this.offset instanceof Integer
+                      || this.offset instanceof Short || this.offset instanceof Byte;
   }
 
   /**
@@ -43,15 +53,24 @@ public final class AddConverter extends AbstractConverter {
     return NumberSystem.current().isZero(offset);
   }
 
+  @Override
+  protected int normalFormOrder()
+  {
+    return 5;
+  }
+
   @Override
   protected boolean canReduceWith(AbstractConverter that)
   {
-  	return that instanceof AddConverter;
+  	return AffineConverter.isAffine(that);
   }
 
   @Override
   protected AbstractConverter reduce(AbstractConverter that)
   {
+    if(!(that instanceof AddConverter)) {
+      return AffineConverter.compose(this, that);
+    }
     NumberSystem ns = NumberSystem.current();
     Number newOffset = ns.add(offset, ((AddConverter)that).offset);
     return new AddConverter(newOffset);
@@ -73,6 +92,57 @@ public final class AddConverter extends AbstractConverter {
                         .peek();
   }
 
+  @Override
+  protected double convertWhenNotIdentity(double value)
+  {
+    return value + doubleOffset;
+  }
+
+  @Override
+  protected long convertWhenNotIdentity(long value)
+  {
+    if(longExact) return Math.addExact(value, offset.longValue());
+    return super.convertWhenNotIdentity(value);
+  }
+
+  @Override
+  protected long convertExactWhenNotIdentity(long value)
+  {
+    if(longExact) return Math.addExact(value, offset.longValue());
+    return super.convertExactWhenNotIdentity(value);
+  }
+
+  @Override
+  protected void convertWhenNotIdentity(double[] src, int srcOff, double[] dst, int dstOff, int len)
+  {
+    final double offset = doubleOffset;
+    for(int i = 0; i < len; i++) {
+      dst[dstOff + i] = src[srcOff + i] + offset;
+    }
+  }
+
+  @Override
+  protected void convertWhenNotIdentity(float[] src, int srcOff, float[] dst, int dstOff, int len)
+  {
+    final double offset = doubleOffset;
+    for(int i = 0; i < len; i++) {
+      dst[dstOff + i] = (float) (src[srcOff + i] + offset);
+    }
+  }
+
+  @Override
+  protected void convertWhenNotIdentity(long[] src, int srcOff, long[] dst, int dstOff, int len)
+  {
+    if(!longExact) {
+      super.convertWhenNotIdentity(src, srcOff, dst, dstOff, len);
+      return;
+    }
+    final long offset = this.offset.longValue();
+    for(int i = 0; i < len; i++) {
+      dst[dstOff + i] = Math.addExact(src[srcOff + i], offset);
+    }
+  }
+
   @Override
   public String transformationLiteral()
   {
@@ -0,0 +1,273 @@
+package org.xpertss.unit.converters;
+
+import org.xpertss.unit.math.Calculator;
+import org.xpertss.unit.math.NumberSystem;
+import org.xpertss.unit.math.RationalNumber;
+import xpertss.measure.UnitConverter;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * This class represents an affine converter {@code x -> factor * x + offset}, the normal
+ * form of any chain of multiply and add converters.
+ * <p/>
+ * Factor and offset are kept exact (rational) whenever the converters they were composed
+ * of are exact.
+ */
+public final class AffineConverter extends AbstractConverter {
+
+	/**
+	 * Holds the scale factor.
+	 */
+	private final Number factor;
+
+	/**
+	 * Holds the offset, added after scaling.
+	 */
+	private final Number offset;
+
+	private final double doubleFactor;
+	private final double doubleOffset;
+
+	/**
+	 * Creates an affine converter {@code x -> factor * x + offset}.
+	 *
+	 * @param factor
+	 *          the scale factor.
+	 * @param offset
+	 *          the offset added after scaling.
+	 * @throws NullPointerException
+	 *           if factor or offset is {@code null}
+	 */
+	AffineConverter(Number factor, Number offset)
+	{
+		final NumberSystem ns = NumberSystem.current();
+		this.factor = ns.narrow(Objects.requireNonNull(factor));
+		this.offset = ns.narrow(exact(Objects.requireNonNull(offset), this.factor));
+		this.doubleFactor = this.factor.doubleValue();
+		this.doubleOffset = this.offset.doubleValue();
+	}
+
+	/**
+	 * Returns the simplest converter equivalent to {@code x -> factor * x + offset}, that is
+	 * the identity, a multiply or an add converter when possible.
+	 *
+	 * @param factor
+	 *          the scale factor.
+	 * @param offset
+	 *          the offset added after scaling.
+	 */
+	public static AbstractConverter of(Number factor, Number offset)
+	{
+		final NumberSystem ns = NumberSystem.current();
+		if(ns.isZero(offset)) {
+			if(ns.isOne(factor)) return IDENTITY;
+			return (AbstractConverter) MultiplyConverter.of(factor);
+		}
+		if(ns.isOne(factor)) return new AddConverter(offset);
+		return new AffineConverter(factor, offset);
+	}
+
+	/**
+	 * Returns the scale factor of this converter.
+	 */
+	public Number getFactor()
+	{
+		return factor;
+	}
+
+	/**
+	 * Returns the offset of this converter, added after scaling.
+	 */
+	public Number getOffset()
+	{
+		return offset;
+	}
+
+	@Override
+	public boolean isIdentity()
+	{
+		final NumberSystem ns = NumberSystem.current();
+		return ns.isOne(factor) && ns.isZero(offset);
+	}
+
+	@Override
+	public boolean isLinear()
+	{
+		return NumberSystem.current().isZero(offset);
+	}
+
+	@Override
+	public Optional<Number> linearFactor()
+	{
+		return Optional.of(factor);
+	}
+
+	@Override
+	protected int normalFormOrder()
+	{
+		return 6;
+	}
+
+	@Override
+	protected boolean canReduceWith(AbstractConverter that)
+	{
+		return isAffine(that);
+	}
+
+	@Override
+	protected AbstractConverter reduce(AbstractConverter that)
+	{
+		return compose(this, that);
+	}
+
+	@Override
+	protected AbstractConverter inverseWhenNotIdentity()
+	{
+		// y = a * x + b  <=>  x = y / a - b / a
+		final NumberSystem ns = NumberSystem.current();
+		return of(ns.reciprocal(factor), ns.negate(ns.divide(offset, factor)));
+	}
+
+	@Override
+	protected Number convertWhenNotIdentity(Number value)
+	{
+		return Calculator.of(factor)
+				.multiply(value)
+				.add(offset)
+				.peek();
+	}
+
+	@Override
+	protected double convertWhenNotIdentity(double value)
+	{
+		return value * doubleFactor + doubleOffset;
+	}
+
+	@Override
+	protected void convertWhenNotIdentity(double[] src, int srcOff, double[] dst, int dstOff, int len)
+	{
+		final double factor = doubleFactor;
+		final double offset = doubleOffset;
+		for(int i = 0; i < len; i++) {
+			dst[dstOff + i] = src[srcOff + i] * factor + offset;
+		}
+	}
+
+	@Override
+	protected void convertWhenNotIdentity(float[] src, int srcOff, float[] dst, int dstOff, int len)
+	{
+		final double factor = doubleFactor;
+		final double offset = doubleOffset;
+		for(int i = 0; i < len; i++) {
+			dst[dstOff + i] = (float) (src[srcOff + i] * factor + offset);
+		}
+	}
+
+	@Override
+	protected String transformationLiteral()
+	{
+		final NumberSystem ns = NumberSystem.current();
+		return String.format("x -> x * %s %s %s", factor, ns.signum(offset) < 0 ? "-" : "+", ns.abs(offset));
+	}
+
+	@Override
+	public boolean equals(Object obj)
+	{
+		if (this == obj) return true;
+		if (obj instanceof AffineConverter) {
+			AffineConverter that = (AffineConverter) obj;
+			return Objects.equals(factor, that.factor) && Objects.equals(offset, that.offset);
+		}
+		return false;
+	}
+
+	@Override
+	public int hashCode()
+	{
+		return Objects.hash(factor, offset);
+	}
+
+	@Override
+	public int compareTo(UnitConverter o)
+	{
+		if (this == o) return 0;
+		if (o instanceof AffineConverter) {
+			final NumberSystem ns = NumberSystem.current();
+			final AffineConverter that = (AffineConverter) o;
+			final int c = ns.compare(this.factor, that.factor);
+			return (c != 0) ? c : ns.compare(this.offset, that.offset);
+		}
+		return this.getClass().getName().compareTo(o.getClass().getName());
+	}
+
+	/**
+	 * Returns the {@code double} coefficients {@code [factor, offset]} of the transformation
+	 * {@code x -> factor * x + offset} equivalent to the given converter, or {@code null} if
+	 * the converter is not affine (e.g. logarithmic).
+	 *
+	 * @param converter
+	 *          the converter to analyze.
+	 */
+	public static double[] coefficientsOf(UnitConverter converter)
+	{
+		return ConverterCompiler.affineForm(converter);
+	}
+
+	// -- COMPOSITION
+
+	/**
+	 * Returns {@code true} if the given converter is a multiply, add or affine converter.
+	 */
+	static boolean isAffine(AbstractConverter converter)
+	{
+		return converter instanceof MultiplyConverter
+					|| converter instanceof AddConverter
+					|| converter instanceof AffineConverter;
+	}
+
+	/**
+	 * Returns {@code left o right} for two affine (multiply, add or affine) converters.
+	 */
+	static AbstractConverter compose(AbstractConverter left, AbstractConverter right)
+	{
+		// (a1 * x + b1) o (a2 * x + b2) = a1 * a2 * x + (a1 * b2 + b1)
+		final NumberSystem ns = NumberSystem.current();
+		final Number leftFactor = factorOf(left);
+		final Number rightOffset = offsetOf(right);
+		final Number newFactor = ns.multiply(leftFactor, factorOf(right));
+		final Number newOffset = ns.add(ns.multiply(leftFactor, exact(rightOffset, leftFactor)), exact(offsetOf(left), leftFactor));
+		return of(newFactor, exact(newOffset, newFactor));
+	}
+
+	// -- HELPER
+
+	private static Number factorOf(AbstractConverter converter)
+	{
+		if(converter instanceof AffineConverter) return ((AffineConverter) converter).factor;
+		if(converter instanceof MultiplyConverter) return ((MultiplyConverter) converter).getFactor();
+		return 1;
+	}
+
+	private static Number offsetOf(AbstractConverter converter)
+	{
+		if(converter instanceof AffineConverter) return ((AffineConverter) converter).offset;
+		if(converter instanceof AddConverter) return ((AddConverter) converter).getOffset();
+		return 0;
+	}
+
+	/**
+	 * Returns floating point offsets as rational numbers, unless the factor is a floating
+	 * point number itself, in which case exactness is lost anyway.
+	 */
+	private static Number exact(Number offset, Number factor)
+	{
+		final boolean floatingPoint = offset instanceof Double || offset instanceof Float;
+		final boolean exactFactor = !(factor instanceof Double || factor instanceof Float);
+		if(floatingPoint && exactFactor && Double.isFinite(offset.doubleValue())) {
+			return RationalNumber.of(offset.doubleValue());
+		}
+		return offset;
+	}
+
+}
@@ -0,0 +1,252 @@
+package org.xpertss.unit.converters;
+
+import org.xpertss.unit.math.Calculator;
+import org.xpertss.unit.math.LongMath;
+import xpertss.measure.UnitConverter;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * This class represents a normalized sequence of converters, held in a flat array
+ * (in matrix notation <code>[composite] = [step0] x [step1] x ... x [stepN]</code>).
+ * <p/>
+ * Steps are listed left to right, that is the last step is applied first. Conversions
+ * iterate the steps without recursion and the steps are exposed without copying.
+ */
+public final class CompositeConverter extends AbstractConverter {
+
+   /**
+    * Holds the steps, at least two of them, none being composites themselves.
+    */
+   private final AbstractConverter[] steps;
+
+   /**
+    * Holds the hash code, composites are immutable and often used as (interned) keys.
+    */
+   private final int hashCode;
+
+   /**
+    * Creates a composite converter applying the given steps from last to first.
+    *
+    * @param steps
+    *            the conversion steps, listed left to right.
+    * @throws IllegalArgumentException
+    *             if there are less than two steps or any of them is <code>null</code>
+    */
+   CompositeConverter(AbstractConverter[] steps)
+   {
+      if(steps.length < 2) {
+         throw new IllegalArgumentException("A composite requires at least two steps");
+      }
+      for(AbstractConverter step : steps) {
+         if(step == null) throw new IllegalArgumentException("Converters cannot be null");
+      }
+      this.steps = steps;
+      this.hashCode = Arrays.hashCode(steps);
+   }
+
+   /**
+    * Returns the converter applying the given sequence of converters from last to first,
+    * that is the identity for an empty sequence, the single converter or a composite.
+    *
+    * @param sequence
+    *            the conversion steps, listed left to right.
+    */
+   public static AbstractConverter of(AbstractConverter... sequence)
+   {
+      if(sequence == null || sequence.length == 0) return IDENTITY;
+      if(sequence.length == 1) return sequence[0];
+      return new CompositeConverter(sequence.clone());
+   }
+
+   /**
+    * Same as {@link #of(AbstractConverter...)} for the first {@code length} elements of the
+    * given array, which are copied.
+    *
+    * @param sequence
+    *            the conversion steps, listed left to right.
+    * @param length
+    *            the number of steps.
+    */
+   public static AbstractConverter of(AbstractConverter[] sequence, int length)
+   {
+      if(length == 0) return IDENTITY;
+      if(length == 1) return sequence[0];
+      return new CompositeConverter(Arrays.copyOf(sequence, length));
+   }
+
+   @Override
+   public boolean isLinear()
+   {
+      for(AbstractConverter step : steps) {
+         if(!step.isLinear()) return false;
+      }
+      return true;
+   }
+
+   @Override
+   public Optional<Number> linearFactor()
+   {
+      // factors are composed by multiplying them, unless there is one absent linear-factor,
+      // then all breaks down and we return an empty optional
+      Calculator factor = null;
+      for(AbstractConverter step : steps) {
+         final Optional<Number> stepFactor = step.linearFactor();
+         if(!stepFactor.isPresent()) return Optional.empty();
+         factor = (factor == null) ? Calculator.of(stepFactor.get()) : factor.multiply(stepFactor.get());
+      }
+      return Optional.of(factor.peek());
+   }
+
+   @Override
+   public boolean isIdentity()
+   {
+      return false;
+   }
+
+   @Override
+   protected List<? extends UnitConverter> createConversionSteps()
+   {
+      return Collections.unmodifiableList(Arrays.asList(steps));
+   }
+
+   @Override
+   protected CompositeConverter inverseWhenNotIdentity()
+   {
+      // (a o b)^-1 = b^-1 o a^-1
+      final AbstractConverter[] inverse = new AbstractConverter[steps.length];
+      for(int i = 0; i < steps.length; i++) {
+         inverse[steps.length - 1 - i] = (AbstractConverter) steps[i].inverse();
+      }
+      return new CompositeConverter(inverse);
+   }
+
+   @Override
+   protected Number convertWhenNotIdentity(Number value)
+   {
+      for(int i = steps.length - 1; i >= 0; i--) {
+         value = steps[i].convertWhenNotIdentity(value);
+      }
+      return value;
+   }
+
+   @Override
+   protected double convertWhenNotIdentity(double value)
+   {
+      final double[] affine = affineForm();
+      if(affine != null) {
+         // same fused coefficients as the bulk conversion, hence the same rounding
+         return value * affine[0] + affine[1];
+      }
+      for(int i = steps.length - 1; i >= 0; i--) {
+         value = steps[i].convert(value);
+      }
+      return value;
+   }
+
+   @Override
+   protected long convertWhenNotIdentity(long value)
+   {
+      // linear composites round once, on the exact result rather than through double
+      final long[] exact = exactForm();
+      if(exact == null) return super.convertWhenNotIdentity(value);
+      return Math.addExact(LongMath.multiplyDivideAndRound(value, exact[0], exact[1]), exact[2]);
+   }
+
+   @Override
+   protected long convertExactWhenNotIdentity(long value)
+   {
+      // exactness is a property of the whole result, intermediate steps may be fractional
+      final long[] exact = exactForm();
+      if(exact == null) return super.convertExactWhenNotIdentity(value);
+      return Math.addExact(LongMath.multiplyDivideExact(value, exact[0], exact[1]), exact[2]);
+   }
+
+   @Override
+   protected void convertWhenNotIdentity(double[] src, int srcOff, double[] dst, int dstOff, int len)
+   {
+      final double[] affine = affineForm();
+      if(affine != null) {
+         // single pass, a loop shape the JIT compiles to SIMD instructions
+         final double factor = affine[0];
+         final double offset = affine[1];
+         for(int i = 0; i < len; i++) {
+            dst[dstOff + i] = src[srcOff + i] * factor + offset;
+         }
+         return;
+      }
+      // the last step is applied first, then the others in place
+      final int last = steps.length - 1;
+      steps[last].convert(src, srcOff, dst, dstOff, len);
+      for(int i = last - 1; i >= 0; i--) {
+         steps[i].convert(dst, dstOff, dst, dstOff, len);
+      }
+   }
+
+   @Override
+   protected void convertWhenNotIdentity(float[] src, int srcOff, float[] dst, int dstOff, int len)
+   {
+      final double[] affine = affineForm();
+      if(affine == null) {
+         super.convertWhenNotIdentity(src, srcOff, dst, dstOff, len);
+         return;
+      }
+      final double factor = affine[0];
+      final double offset = affine[1];
+      for(int i = 0; i < len; i++) {
+         dst[dstOff + i] = (float) (src[srcOff + i] * factor + offset);
+      }
+   }
+
+   @Override
+   public boolean equals(Object obj)
+   {
+      if (this == obj) return true;
+      if (obj instanceof CompositeConverter) {
+         CompositeConverter that = (CompositeConverter) obj;
+         return hashCode == that.hashCode && Arrays.equals(steps, that.steps);
+      }
+      return false;
+   }
+
+   @Override
+   public int hashCode()
+   {
+      return hashCode;
+   }
+
+   @Override
+   public int compareTo(UnitConverter obj)
+   {
+      if (this == obj) return 0;
+      if (obj instanceof CompositeConverter) {
+         CompositeConverter that = (CompositeConverter) obj;
+         final int length = Integer.compare(this.steps.length, that.steps.length);
+         if(length != 0) return length;
+         for(int i = 0; i < steps.length; i++) {
+            final int c = this.steps[i].compareTo(that.steps[i]);
+            if(c != 0) return c;
+         }
+         return 0;
+      }
+      return -1;
+   }
+
+   @Override
+   protected String transformationLiteral()
+   {
+      return Arrays.stream(steps)
+            .map(UnitConverter::toString)
+            .collect(Collectors.joining(" ○ "));
+   }
+
+   @Override
+   protected boolean canReduceWith(AbstractConverter that)
+   {
+      return false;
+   }
+
+}
@@ -0,0 +1,274 @@
+package org.xpertss.unit.converters;
+
+import xpertss.measure.UnitConverter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Package private backend of {@link ConverterCompiler}, generating straight-line bytecode
+ * for the {@code double} conversion of chains made up of multiply, add, affine, logarithmic
+ * and exponential steps. Each chain becomes a hidden class implementing
+ * {@link DoubleUnaryOperator}, which the JIT compiles and inlines like hand written code.
+ * <p/>
+ * The backend is disabled by default, it is enabled by the system property
+ * {@value #ENABLED_PROPERTY}. Hidden classes require Java 15 or later, on earlier
+ * versions (or for chains holding other steps) {@link #generate(List)} returns {@code null}
+ * and {@link ConverterCompiler} falls back to composing lambdas.
+ */
+final class ConverterCodeGenerator {
+
+   /**
+    * The system property enabling the bytecode backend.
+    */
+   static final String ENABLED_PROPERTY = "xpertss.measure.bytecodeConverters";
+
+   static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+   private static final String CLASS_NAME = "org/xpertss/unit/converters/GeneratedConverter";
+
+   private static final Method DEFINE_HIDDEN_CLASS = defineHiddenClassMethod();
+   private static final Object NO_CLASS_OPTIONS = noClassOptions();
+
+   // opcodes
+   private static final int ALOAD_0 = 0x2a;
+   private static final int DLOAD_1 = 0x27;
+   private static final int LDC2_W = 0x14;
+   private static final int DADD = 0x63;
+   private static final int DMUL = 0x6b;
+   private static final int DDIV = 0x6f;
+   private static final int DRETURN = 0xaf;
+   private static final int RETURN = 0xb1;
+   private static final int INVOKESPECIAL = 0xb7;
+   private static final int INVOKESTATIC = 0xb8;
+
+   // this is a utility class, don't instantiate
+   private ConverterCodeGenerator() {}
+
+   /**
+    * Returns whether hidden classes can be defined on this platform, that is Java 15 or later.
+    */
+   static boolean isAvailable()
+   {
+      return DEFINE_HIDDEN_CLASS != null;
+   }
+
+   /**
+    * Generates a {@code double} function equivalent to the given conversion steps.
+    *
+    * @param steps the conversion steps, listed left to right
+    * @return the generated function or {@code null} if the steps cannot be generated
+    */
+   static DoubleUnaryOperator generate(List<? extends UnitConverter> steps)
+   {
+      if(DEFINE_HIDDEN_CLASS == null) return null;
+      final byte[] bytes;
+      try {
+         bytes = classFile(steps);
+      } catch(IOException e) {
+         return null;
+      }
+      if(bytes == null) return null;
+      try {
+         final MethodHandles.Lookup lookup = (MethodHandles.Lookup)
+               DEFINE_HIDDEN_CLASS.invoke(MethodHandles.lookup(), bytes, true, NO_CLASS_OPTIONS);
+         return lookup.lookupClass().asSubclass(DoubleUnaryOperator.class).getConstructor().newInstance();
+      } catch(ReflectiveOperationException | LinkageError e) {
+         return null; // we do the best we can ...
+      }
+   }
+
+   // -- HELPER
+
+   /**
+    * Returns the class file, or {@code null} if any of the steps is not supported.
+    */
+   private static byte[] classFile(List<? extends UnitConverter> steps) throws IOException
+   {
+      final ConstantPool pool = new ConstantPool();
+      final int thisClass = pool.classRef(CLASS_NAME);
+      final int superClass = pool.classRef("java/lang/Object");
+      final int operatorInterface = pool.classRef("java/util/function/DoubleUnaryOperator");
+      final int objectInit = pool.methodRef(superClass, "<init>", "()V");
+      final int initName = pool.utf8("<init>");
+      final int initType = pool.utf8("()V");
+      final int applyName = pool.utf8("applyAsDouble");
+      final int applyType = pool.utf8("(D)D");
+      final int code = pool.utf8("Code");
+
+      final ByteArrayOutputStream apply = new ByteArrayOutputStream();
+      final DataOutputStream out = new DataOutputStream(apply);
+      out.writeByte(DLOAD_1);
+      // steps are listed left to right, that is the last step is applied first
+      for(int i = steps.size() - 1; i >= 0; i--) {
+         final UnitConverter step = steps.get(i);
+         if(step.isIdentity()) continue;
+         final double[] affine = ConverterCompiler.affineForm(step);
+         if(affine != null) {
+            if(affine[0] != 1.0) constant(out, pool, affine[0], DMUL);
+            if(affine[1] != 0.0) constant(out, pool, affine[1], DADD);
+         } else if(step instanceof LogConverter) {
+            out.writeByte(INVOKESTATIC);
+            out.writeShort(pool.methodRef(pool.classRef("java/lang/Math"), "log", "(D)D"));
+            constant(out, pool, Math.log(((LogConverter) step).getBase()), DDIV);
+         } else if(step instanceof ExpConverter) {
+            constant(out, pool, Math.log(((ExpConverter) step).getBase()), DMUL);
+            out.writeByte(INVOKESTATIC);
+            out.writeShort(pool.methodRef(pool.classRef("java/lang/Math"), "exp", "(D)D"));
+         } else {
+            return null;
+         }
+      }
+      out.writeByte(DRETURN);
+
+      final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      final DataOutputStream cf = new DataOutputStream(bytes);
+      cf.writeInt(0xCAFEBABE);
+      cf.writeShort(0);          // minor version
+      cf.writeShort(52);         // major version, Java 8
+      pool.writeTo(cf);
+      cf.writeShort(0x0031);     // public final super
+      cf.writeShort(thisClass);
+      cf.writeShort(superClass);
+      cf.writeShort(1);          // interfaces
+      cf.writeShort(operatorInterface);
+      cf.writeShort(0);          // fields
+      cf.writeShort(2);          // methods
+
+      // public <init>() { super(); }
+      cf.writeShort(0x0001);
+      cf.writeShort(initName);
+      cf.writeShort(initType);
+      cf.writeShort(1);
+      writeCode(cf, code, 1, 1, new byte[] {
+            (byte) ALOAD_0, (byte) INVOKESPECIAL, (byte) (objectInit >> 8), (byte) objectInit, (byte) RETURN });
+
+      // public double applyAsDouble(double x) { return ... ; }
+      cf.writeShort(0x0001);
+      cf.writeShort(applyName);
+      cf.writeShort(applyType);
+      cf.writeShort(1);
+      writeCode(cf, code, 4, 3, apply.toByteArray());
+
+      cf.writeShort(0);          // attributes
+      return bytes.toByteArray();
+   }
+
+   private static void constant(DataOutputStream out, ConstantPool pool, double value, int opcode) throws IOException
+   {
+      out.writeByte(LDC2_W);
+      out.writeShort(pool.doubleConstant(value));
+      out.writeByte(opcode);
+   }
+
+   private static void writeCode(DataOutputStream cf, int codeName, int maxStack, int maxLocals, byte[] code)
+      throws IOException
+   {
+      cf.writeShort(codeName);
+      cf.writeInt(12 + code.length);
+      cf.writeShort(maxStack);
+      cf.writeShort(maxLocals);
+      cf.writeInt(code.length);
+      cf.write(code);
+      cf.writeShort(0);          // exception table
+      cf.writeShort(0);          // attributes
+   }
+
+   private static Method defineHiddenClassMethod()
+   {
+      try {
+         final Class<?> options = Class.forName("java.lang.invoke.MethodHandles$Lookup$ClassOption");
+         return MethodHandles.Lookup.class.getMethod("defineHiddenClass",
+                     byte[].class, boolean.class, Array.newInstance(options, 0).getClass());
+      } catch(ReflectiveOperationException e) {
+         return null; // prior to Java 15
+      }
+   }
+
+   private static Object noClassOptions()
+   {
+      return (DEFINE_HIDDEN_CLASS == null) ? null
+               : Array.newInstance(DEFINE_HIDDEN_CLASS.getParameterTypes()[2].getComponentType(), 0);
+   }
+
+   /**
+    * Minimal class file constant pool, entries are shared.
+    */
+   private static final class ConstantPool {
+
+      private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+      private final DataOutputStream out = new DataOutputStream(bytes);
+      private final Map<Object, Integer> entries = new HashMap<>();
+      private int count = 1;
+
+      int utf8(String value) throws IOException
+      {
+         final Integer index = entries.get(value);
+         if(index != null) return index;
+         out.writeByte(1);
+         out.writeUTF(value);
+         return register(value, 1);
+      }
+
+      int classRef(String name) throws IOException
+      {
+         final String key = "Class:" + name;
+         final Integer index = entries.get(key);
+         if(index != null) return index;
+         final int nameIndex = utf8(name);
+         out.writeByte(7);
+         out.writeShort(nameIndex);
+         return register(key, 1);
+      }
+
+      int methodRef(int classIndex, String name, String type) throws IOException
+      {
+         final String key = "Method:" + classIndex + "." + name + type;
+         final Integer index = entries.get(key);
+         if(index != null) return index;
+         final int nameIndex = utf8(name);
+         final int typeIndex = utf8(type);
+         out.writeByte(12);
+         out.writeShort(nameIndex);
+         out.writeShort(typeIndex);
+         final int nameAndType = register(key + ":NameAndType", 1);
+         out.writeByte(10);
+         out.writeShort(classIndex);
+         out.writeShort(nameAndType);
+         return register(key, 1);
+      }
+
+      int doubleConstant(double value) throws IOException
+      {
+         final Long key = Double.doubleToRawLongBits(value);
+         final Integer index = entries.get(key);
+         if(index != null) return index;
+         out.writeByte(6);
+         out.writeDouble(value);
+         return register(key, 2); // doubles take two entries
+      }
+
+      void writeTo(DataOutputStream cf) throws IOException
+      {
+         cf.writeShort(count);
+         bytes.writeTo(cf);
+      }
+
+      private int register(Object key, int size)
+      {
+         final int index = count;
+         entries.put(key, index);
+         count += size;
+         return index;
+      }
+   }
+
+}
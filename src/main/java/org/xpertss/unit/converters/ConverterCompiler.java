@@ -0,0 +1,216 @@
+package org.xpertss.unit.converters;
+
+import org.xpertss.unit.math.RationalNumber;
+import xpertss.measure.UnitConverter;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Package private utility flattening the conversion steps of a converter into a single
+ * primitive {@link DoubleUnaryOperator}.
+ * <p/>
+ * Consecutive multiply, add and affine steps are fused into one {@code a * x + b} operation, the
+ * logarithmic and exponential steps are applied using their precomputed natural logarithm
+ * of the base. The resulting operator does not allocate.
+ * <p/>
+ * Chains that are not affine may optionally be compiled to bytecode, see
+ * {@link ConverterCodeGenerator}. The same analysis on exact numbers yields the integer
+ * form used by {@code convertExact(long)}.
+ */
+final class ConverterCompiler {
+
+   // this is a utility class, don't instantiate
+   private ConverterCompiler() {}
+
+   /**
+    * Compiles the given converter into a {@code double} function.
+    *
+    * @param converter the converter to compile
+    * @return a {@code double} function equivalent to the given converter
+    */
+   static DoubleUnaryOperator compile(UnitConverter converter)
+   {
+      if(converter.isIdentity()) return DoubleUnaryOperator.identity();
+
+      final List<? extends UnitConverter> steps = converter.getConversionSteps();
+      final List<DoubleUnaryOperator> operators = new ArrayList<>(steps.size());
+
+      // steps are listed left to right, that is the last step is applied first
+      final double[] form = { 1.0, 0.0 };
+      boolean affine = true;
+      for(int i = steps.size() - 1; i >= 0; i--) {
+         final UnitConverter step = steps.get(i);
+         if(fold(step, form)) continue;
+         affine = false;
+         addAffine(operators, form[0], form[1]);
+         form[0] = 1.0;
+         form[1] = 0.0;
+         operators.add(compileStep(step));
+      }
+      if(!affine && ConverterCodeGenerator.ENABLED) {
+         final DoubleUnaryOperator generated = ConverterCodeGenerator.generate(steps);
+         if(generated != null) return generated;
+      }
+      addAffine(operators, form[0], form[1]);
+
+      if(operators.isEmpty()) return DoubleUnaryOperator.identity();
+      if(operators.size() == 1) return operators.get(0);
+      return chain(operators.toArray(new DoubleUnaryOperator[0]));
+   }
+
+   /**
+    * Returns the coefficients {@code [factor, offset]} of the {@code x -> factor * x + offset}
+    * transformation equivalent to the given converter, or {@code null} if the converter
+    * contains non-affine steps.
+    *
+    * @param converter the converter to analyze
+    * @return the affine coefficients or {@code null}
+    */
+   static double[] affineForm(UnitConverter converter)
+   {
+      final List<? extends UnitConverter> steps = converter.getConversionSteps();
+      final double[] form = { 1.0, 0.0 };
+      for(int i = steps.size() - 1; i >= 0; i--) {
+         if(!fold(steps.get(i), form)) return null;
+      }
+      return form;
+   }
+
+   /**
+    * Returns the terms {@code [dividend, divisor, offset]} of the integer-exact
+    * {@code x -> x * dividend / divisor + offset} transformation equivalent to the given
+    * converter, or {@code null} if the converter contains non-affine steps or the terms
+    * are not all {@code long}s. The factor {@code dividend / divisor} is reduced and the
+    * offset is an integer, the result is then an integer if and only if {@code divisor}
+    * divides {@code x}.
+    *
+    * @param converter the converter to analyze
+    * @return the exact terms or {@code null}
+    */
+   static long[] exactForm(UnitConverter converter)
+   {
+      final List<? extends UnitConverter> steps = converter.getConversionSteps();
+      RationalNumber factor = RationalNumber.ONE;
+      RationalNumber offset = RationalNumber.ZERO;
+      for(int i = steps.size() - 1; i >= 0; i--) {
+         final UnitConverter step = steps.get(i);
+         if(step.isIdentity()) continue;
+         if(step instanceof MultiplyConverter) {
+            final RationalNumber value = rational(((MultiplyConverter) step).getValue());
+            if(value == null) return null;
+            factor = factor.multiply(value);
+            offset = offset.multiply(value);
+         } else if(step instanceof AddConverter) {
+            final RationalNumber value = rational(((AddConverter) step).getOffset());
+            if(value == null) return null;
+            offset = offset.add(value);
+         } else if(step instanceof AffineConverter) {
+            final AffineConverter affine = (AffineConverter) step;
+            final RationalNumber value = rational(affine.getFactor());
+            final RationalNumber add = rational(affine.getOffset());
+            if(value == null || add == null) return null;
+            factor = factor.multiply(value);
+            offset = offset.multiply(value).add(add);
+         } else {
+            return null;
+         }
+      }
+      if(!factor.isLong() || !offset.isInteger() || !offset.isLong()) return null;
+      return new long[] { factor.getLongDividend(), factor.getLongDivisor(), offset.getLongDividend() };
+   }
+
+   // -- HELPER
+
+   /**
+    * Returns the given exact number as a rational number, or {@code null} if it is not
+    * exact (e.g. a {@code double}).
+    */
+   private static RationalNumber rational(Number number)
+   {
+      if(number instanceof RationalNumber) return (RationalNumber) number;
+      if(number instanceof BigInteger) return RationalNumber.ofInteger((BigInteger) number);
+      if(number instanceof Long || number instanceof Integer || number instanceof Short || number instanceof Byte) {
+         return RationalNumber.ofInteger(number.longValue());
+      }
+      return null;
+   }
+
+   /**
+    * Folds the given step into the coefficients {@code [factor, offset]} of the affine
+    * steps applied before it. Returns {@code false}, leaving the coefficients unchanged,
+    * if the step is not affine.
+    */
+   private static boolean fold(UnitConverter step, double[] form)
+   {
+      if(step.isIdentity()) return true;
+      if(step instanceof MultiplyConverter) {
+         final double value = ((MultiplyConverter) step).getValue().doubleValue();
+         form[0] *= value;
+         form[1] *= value;
+      } else if(step instanceof AddConverter) {
+         form[1] += ((AddConverter) step).getOffset().doubleValue();
+      } else if(step instanceof AffineConverter) {
+         final AffineConverter affine = (AffineConverter) step;
+         final double value = affine.getFactor().doubleValue();
+         form[0] *= value;
+         form[1] = form[1] * value + affine.getOffset().doubleValue();
+      } else {
+         return false;
+      }
+      return true;
+   }
+
+   private static void addAffine(List<DoubleUnaryOperator> operators, double factor, double offset)
+   {
+      if(factor == 1.0 && offset == 0.0) return;
+      operators.add(affine(factor, offset));
+   }
+
+   /**
+    * Returns the operator {@code x -> factor * x + offset} with trivial terms omitted.
+    */
+   static DoubleUnaryOperator affine(final double factor, final double offset)
+   {
+      if(offset == 0.0) {
+         return (factor == 1.0) ? DoubleUnaryOperator.identity() : x -> x * factor;
+      }
+      if(factor == 1.0) {
+         return x -> x + offset;
+      }
+      return x -> x * factor + offset;
+   }
+
+   private static DoubleUnaryOperator compileStep(final UnitConverter step)
+   {
+      if(step instanceof LogConverter) {
+         final double logOfBase = Math.log(((LogConverter) step).getBase());
+         return x -> Math.log(x) / logOfBase;
+      }
+      if(step instanceof ExpConverter) {
+         final double logOfBase = Math.log(((ExpConverter) step).getBase());
+         return x -> Math.exp(logOfBase * x);
+      }
+      // unknown converter type, we do the best we can ...
+      return x -> step.convert(x);
+   }
+
+   private static DoubleUnaryOperator chain(final DoubleUnaryOperator[] operators)
+   {
+      if(operators.length == 2) {
+         final DoubleUnaryOperator first = operators[0];
+         final DoubleUnaryOperator second = operators[1];
+         return x -> second.applyAsDouble(first.applyAsDouble(x));
+      }
+      return x -> {
+         double result = x;
+         for(DoubleUnaryOperator operator : operators) {
+            result = operator.applyAsDouble(result);
+         }
+         return result;
+      };
+   }
+
+}
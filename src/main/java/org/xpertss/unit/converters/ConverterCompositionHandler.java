@@ -1,10 +1,10 @@
 package org.xpertss.unit.converters;
 
+import org.xpertss.unit.math.NumberSystems;
 import org.xpertss.unit.simplify.CompositionTask;
+import org.xpertss.unit.utils.BoundedCache;
+import org.xpertss.unit.utils.WeakInterner;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Objects;
 import java.util.function.BiPredicate;
 import java.util.function.BinaryOperator;
 
@@ -14,17 +14,68 @@ import java.util.function.BinaryOperator;
 public class ConverterCompositionHandler {
 
 
-    private final static Map<Class<? extends AbstractConverter>, Integer> normalFormOrder = new HashMap<>(9);
-    static {
-        normalFormOrder.put(AbstractConverter.IDENTITY.getClass(), 0);
-        normalFormOrder.put(PowerOfIntConverter.class, 1);
-        normalFormOrder.put(RationalConverter.class, 2);
-        normalFormOrder.put(PowerOfPiConverter.class, 3);
-        normalFormOrder.put(DoubleMultiplyConverter.class, 4);
-        normalFormOrder.put(AddConverter.class, 5);
-        normalFormOrder.put(LogConverter.class, 6);
-        normalFormOrder.put(ExpConverter.class, 7);
-        normalFormOrder.put(ConverterPair.class, 99);
+    /**
+     * The system property holding the maximum number of memoized compositions.
+     */
+    public static final String MEMO_CAPACITY_PROPERTY = "xpertss.measure.compositionCacheSize";
+
+    /**
+     * The default maximum number of memoized compositions.
+     */
+    public static final int DEFAULT_MEMO_CAPACITY = 1024;
+
+    /**
+     * Canonical instances of composed converters, so that structurally equal converters
+     * (and units transformed by them) mostly compare by identity.
+     */
+    private final WeakInterner<AbstractConverter> interner = new WeakInterner<>();
+
+    /**
+     * Results of the default compositions by operand pair.
+     */
+    private final BoundedCache<OperandPair, AbstractConverter> memo =
+                        new BoundedCache<>(Integer.getInteger(MEMO_CAPACITY_PROPERTY, DEFAULT_MEMO_CAPACITY));
+
+    /**
+     * The default reduction predicate, passing it to
+     * {@link #compose(AbstractConverter, AbstractConverter, BiPredicate, BinaryOperator)}
+     * together with {@link #DEFAULT_REDUCE} makes the composition memoized.
+     */
+    public static final BiPredicate<AbstractConverter, AbstractConverter> DEFAULT_CAN_REDUCE = AbstractConverter::canReduceWith;
+
+    /**
+     * The default reduction, see {@link #DEFAULT_CAN_REDUCE}.
+     */
+    public static final BinaryOperator<AbstractConverter> DEFAULT_REDUCE = AbstractConverter::reduce;
+
+    /**
+     * The (stateless) normalizer used for the default reductions.
+     */
+    private final CompositionTask normalizer = new CompositionTask(
+                this::isNormalFormOrderWhenIdentity,
+                this::isNormalFormOrderWhenCommutative,
+                DEFAULT_CAN_REDUCE,
+                DEFAULT_REDUCE);
+
+
+    /**
+     * Takes two converters {@code left}, {@code right} and returns a (not necessarily new) 
+     * converter that is equivalent to the mathematical composition of these, reducing 
+     * them with {@link AbstractConverter#canReduceWith(AbstractConverter)} and 
+     * {@link AbstractConverter#reduce(AbstractConverter)}:
+     * <p/>
+     * compose(left, right) === left o right 
+     * <p/>
+     * Same as {@code compose(left, right, DEFAULT_CAN_REDUCE, DEFAULT_REDUCE)}, to which
+     * it delegates.
+     *  
+     * @param left
+     * @param right
+     * @return
+     */
+    public AbstractConverter compose(AbstractConverter left, AbstractConverter right)
+    {
+        return compose(left, right, DEFAULT_CAN_REDUCE, DEFAULT_REDUCE);
     }
 
 
@@ -34,6 +85,13 @@ public class ConverterCompositionHandler {
      * <p/>
      * compose(left, right) === left o right 
      * <p/>
+     * Composed converters are interned, equal compositions return the same instance.
+     * Compositions using {@link #DEFAULT_CAN_REDUCE} and {@link #DEFAULT_REDUCE} are also
+     * memoized for the default {@link NumberSystems number system}, composing the same
+     * operands again is a table lookup. The memo holds at most {@value #DEFAULT_MEMO_CAPACITY}
+     * entries unless the system property {@value #MEMO_CAPACITY_PROPERTY} says otherwise, a
+     * capacity of zero disables it.
+     * <p/>
      * Implementation Note: Instead of using AbstractConverter as parameter 
      * and result types, this could be generalized to UnitConverter, but that 
      * would require some careful changes within AbstractConverter itself.
@@ -49,6 +107,26 @@ public class ConverterCompositionHandler {
             AbstractConverter right,
             BiPredicate<AbstractConverter, AbstractConverter> canReduce,
             BinaryOperator<AbstractConverter> doReduce)
+    {
+        if(canReduce != DEFAULT_CAN_REDUCE || doReduce != DEFAULT_REDUCE) {
+            return compose(left, right, new CompositionTask(
+                    this::isNormalFormOrderWhenIdentity,
+                    this::isNormalFormOrderWhenCommutative,
+                    canReduce,
+                    doReduce));
+        }
+        if(left.isIdentity() || right.isIdentity() || !NumberSystems.isDefault()) {
+            return compose(left, right, normalizer);
+        }
+        final OperandPair operands = new OperandPair(left, right);
+        final AbstractConverter result = memo.get(operands);
+        if(result != null) return result;
+        return memo.put(operands, compose(left, right, normalizer));
+    }
+
+
+
+    private AbstractConverter compose(AbstractConverter left, AbstractConverter right, CompositionTask task)
     {
         if(left.isIdentity()) {
             if(right.isIdentity()) {
@@ -58,32 +136,28 @@ public class ConverterCompositionHandler {
         }
         if(right.isIdentity()) return left;
 
-        if(canReduce.test(left, right)) {
-            return doReduce.apply(left, right);
-        }
-
         final boolean commutative = left.isLinear() && right.isLinear();
         final boolean swap = commutative && !isNormalFormOrderWhenCommutative(left, right);
 
-        final ConverterPair nonSimplifiedForm = (swap)
-                    ? new ConverterPair(right, left)
-                    : new ConverterPair(left, right);
-
-        return new CompositionTask(
-                this::isNormalFormOrderWhenIdentity,
-                this::isNormalFormOrderWhenCommutative,
-                canReduce,
-                doReduce)
-           .reduceToNormalForm(nonSimplifiedForm.getConversionSteps());
-
+        return interner.intern(swap
+                    ? task.reduceToNormalForm(right.getConversionSteps(), left.getConversionSteps())
+                    : task.reduceToNormalForm(left.getConversionSteps(), right.getConversionSteps()));
     }
 
 
 
+    /**
+     * Returns the number of memoized compositions, for tests.
+     */
+    int memoSize()
+    {
+        return memo.size();
+    }
+
     private boolean isNormalFormOrderWhenIdentity(AbstractConverter a, AbstractConverter b)
     {
         if(a.getClass().equals(b.getClass())) return true;
-        return normalFormOrder.get(a.getClass()) <= normalFormOrder.get(b.getClass());
+        return a.normalFormOrder() <= b.normalFormOrder();
     }
 
     private boolean isNormalFormOrderWhenCommutative(AbstractConverter a, AbstractConverter b)
@@ -94,15 +168,41 @@ public class ConverterCompositionHandler {
             }
             return true;
         }
+        return a.normalFormOrder() <= b.normalFormOrder();
+    }
 
-        Integer orderA = Objects.requireNonNull(normalFormOrder.get(a.getClass()),
-           ()->String.format("no normal-form order defined for class '%s'", a.getClass().getName()));
-        Integer orderB = Objects.requireNonNull(normalFormOrder.get(b.getClass()),
-           ()->String.format("no normal-form order defined for class '%s'", b.getClass().getName()));
 
-        return orderA <= orderB;
-    }
+    private static final class OperandPair {
 
+        private final AbstractConverter left;
+        private final AbstractConverter right;
+        private final int hashCode;
 
+        private OperandPair(AbstractConverter left, AbstractConverter right)
+        {
+            this.left = left;
+            this.right = right;
+            this.hashCode = 31 * left.hashCode() + right.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object obj)
+        {
+            if (this == obj) return true;
+            if (obj instanceof OperandPair) {
+                OperandPair that = (OperandPair) obj;
+                return this.hashCode == that.hashCode
+                         && (this.left == that.left || this.left.equals(that.left))
+                         && (this.right == that.right || this.right.equals(that.right));
+            }
+            return false;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hashCode;
+        }
+    }
 
 }
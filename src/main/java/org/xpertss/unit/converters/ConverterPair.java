@@ -9,6 +9,7 @@ package org.xpertss.unit.converters;
 
 import org.xpertss.unit.UnitComparator;
 import org.xpertss.unit.math.Calculator;
+import org.xpertss.unit.math.LongMath;
 import xpertss.measure.UnitConverter;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -40,6 +41,11 @@ public final class ConverterPair extends AbstractConverter {
     */
    private final UnitConverter right;
 
+   /**
+    * Holds the hash code, pairs are immutable and often used as (interned) keys.
+    */
+   private final int hashCode;
+
    /**
     * Creates a pair converter resulting from the combined transformation of the
     * specified converters.
@@ -56,6 +62,7 @@ public final class ConverterPair extends AbstractConverter {
       if (left != null && right != null) {
          this.left = left;
          this.right = right;
+         this.hashCode = Objects.hash(left, right);
       } else {
          throw new IllegalArgumentException("Converters cannot be null");
       }
@@ -99,9 +106,7 @@ public final class ConverterPair extends AbstractConverter {
       return false;
    }
 
-   /*
-    * Non-API
-    */
+   @Override
    protected List<? extends UnitConverter> createConversionSteps()
    {
       final List<? extends UnitConverter> leftSteps = left.getConversionSteps();
@@ -135,12 +140,75 @@ public final class ConverterPair extends AbstractConverter {
       return absLeft.convertWhenNotIdentity(absRight.convertWhenNotIdentity(value));
    }
 
+   @Override
+   protected double convertWhenNotIdentity(double value)
+   {
+      final double[] affine = affineForm();
+      if(affine != null) {
+         // same fused coefficients as the bulk conversion, hence the same rounding
+         return value * affine[0] + affine[1];
+      }
+      return left.convert(right.convert(value));
+   }
+
+   @Override
+   protected long convertWhenNotIdentity(long value)
+   {
+      // linear composites round once, on the exact result rather than through double
+      final long[] exact = exactForm();
+      if(exact == null) return super.convertWhenNotIdentity(value);
+      return Math.addExact(LongMath.multiplyDivideAndRound(value, exact[0], exact[1]), exact[2]);
+   }
+
+   @Override
+   protected long convertExactWhenNotIdentity(long value)
+   {
+      // exactness is a property of the whole result, intermediate steps may be fractional
+      final long[] exact = exactForm();
+      if(exact == null) return super.convertExactWhenNotIdentity(value);
+      return Math.addExact(LongMath.multiplyDivideExact(value, exact[0], exact[1]), exact[2]);
+   }
+
+   @Override
+   protected void convertWhenNotIdentity(double[] src, int srcOff, double[] dst, int dstOff, int len)
+   {
+      final double[] affine = affineForm();
+      if(affine != null) {
+         // single pass, a loop shape the JIT compiles to SIMD instructions
+         final double factor = affine[0];
+         final double offset = affine[1];
+         for(int i = 0; i < len; i++) {
+            dst[dstOff + i] = src[srcOff + i] * factor + offset;
+         }
+         return;
+      }
+      // right is applied first, then left in place
+      right.convert(src, srcOff, dst, dstOff, len);
+      left.convert(dst, dstOff, dst, dstOff, len);
+   }
+
+   @Override
+   protected void convertWhenNotIdentity(float[] src, int srcOff, float[] dst, int dstOff, int len)
+   {
+      final double[] affine = affineForm();
+      if(affine == null) {
+         super.convertWhenNotIdentity(src, srcOff, dst, dstOff, len);
+         return;
+      }
+      final double factor = affine[0];
+      final double offset = affine[1];
+      for(int i = 0; i < len; i++) {
+         dst[dstOff + i] = (float) (src[srcOff + i] * factor + offset);
+      }
+   }
+
    @Override
    public boolean equals(Object obj) {
       if (this == obj) return true;
       if (obj instanceof ConverterPair) {
          ConverterPair that = (ConverterPair) obj;
-         return Objects.equals(left, that.left) && Objects.equals(right, that.right);
+         return hashCode == that.hashCode
+                  && Objects.equals(left, that.left) && Objects.equals(right, that.right);
       }
       return false;
    }
@@ -148,7 +216,7 @@ public final class ConverterPair extends AbstractConverter {
    @Override
    public int hashCode()
    {
-      return Objects.hash(left, right);
+      return hashCode;
    }
 
    public UnitConverter getLeft()
@@ -45,15 +45,27 @@ final class DoubleMultiplyConverter extends AbstractConverter implements Multipl
 		return doubleFactor == 1.0;
 	}
 
+	@Override
+	protected int normalFormOrder()
+	{
+		return 4;
+	}
+
 	@Override
 	protected boolean canReduceWith(AbstractConverter that)
 	{
+		if (that instanceof AddConverter || that instanceof AffineConverter) {
+			return true;
+		}
 		return that instanceof DoubleMultiplyConverter;
 	}
 
 	@Override
 	protected AbstractConverter reduce(AbstractConverter that)
 	{
+		if (that instanceof AddConverter || that instanceof AffineConverter) {
+			return AffineConverter.compose(this, that);
+		}
 		return new DoubleMultiplyConverter(doubleFactor * ((DoubleMultiplyConverter) that).doubleFactor);
 	}
 
@@ -67,6 +79,30 @@ final class DoubleMultiplyConverter extends AbstractConverter implements Multipl
 	{
         return Calculator.of(doubleFactor).multiply(value).peek();
     }
+
+	@Override
+	protected double convertWhenNotIdentity(double value)
+	{
+		return value * doubleFactor;
+	}
+
+	@Override
+	protected void convertWhenNotIdentity(double[] src, int srcOff, double[] dst, int dstOff, int len)
+	{
+		final double factor = doubleFactor;
+		for(int i = 0; i < len; i++) {
+			dst[dstOff + i] = src[srcOff + i] * factor;
+		}
+	}
+
+	@Override
+	protected void convertWhenNotIdentity(float[] src, int srcOff, float[] dst, int dstOff, int len)
+	{
+		final double factor = doubleFactor;
+		for(int i = 0; i < len; i++) {
+			dst[dstOff + i] = (float) (src[srcOff + i] * factor);
+		}
+	}
 	
 	@Override
 	public final String transformationLiteral()
@@ -1,6 +1,7 @@
 package org.xpertss.unit.converters;
 
 import org.xpertss.unit.math.Calculator;
+import org.xpertss.unit.math.NumberSystem;
 import xpertss.measure.UnitConverter;
 import java.util.Objects;
 
@@ -63,6 +64,12 @@ public final class ExpConverter extends AbstractConverter {
 		return false;
 	}
 
+	@Override
+	protected int normalFormOrder()
+	{
+		return 8;
+	}
+
 	@Override
 	protected boolean canReduceWith(AbstractConverter that)
 	{
@@ -114,12 +121,34 @@ public final class ExpConverter extends AbstractConverter {
     @Override
     protected Number convertWhenNotIdentity(Number value)
 	{
-        return Calculator.of(logOfBase)
-              .multiply(value)
-              .exp()
-              .peek();
+		if(value instanceof Double || value instanceof Float) {
+			return Calculator.of(logOfBase)
+					.multiply(value)
+					.exp()
+					.peek();
+		}
+		// exact values get an exact logarithm of the base as well
+		return Calculator.of(NumberSystem.current().logOfBase(base))
+				.multiply(value)
+				.exp()
+				.peek();
     }
 
+	@Override
+	protected double convertWhenNotIdentity(double value)
+	{
+		return Math.exp(logOfBase * value);
+	}
+
+	@Override
+	protected void convertWhenNotIdentity(double[] src, int srcOff, double[] dst, int dstOff, int len)
+	{
+		final double logOfBase = this.logOfBase;
+		for(int i = 0; i < len; i++) {
+			dst[dstOff + i] = Math.exp(logOfBase * src[srcOff + i]);
+		}
+	}
+
 	@Override
 	public boolean isLinear()
 	{
@@ -4,6 +4,7 @@ import xpertss.measure.UnitConverter;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.DoubleUnaryOperator;
 
 /**
  */
@@ -35,6 +36,59 @@ final class IdentityMultiplyConverter implements MultiplyConverter {
         return value;
     }
 
+    @Override
+    public double convert(double value)
+    {
+        return value;
+    }
+
+    @Override
+    public Number convert(int value)
+    {
+        return value;
+    }
+
+    @Override
+    public Number convert(long value)
+    {
+        return value;
+    }
+
+    @Override
+    public long convertToLong(long value)
+    {
+        return value;
+    }
+
+    @Override
+    public long convertExact(long value)
+    {
+        return value;
+    }
+
+    @Override
+    public void convert(double[] src, int srcOff, double[] dst, int dstOff, int len)
+    {
+        System.arraycopy(src, srcOff, dst, dstOff, len);
+    }
+
+    @Override
+    public void convert(float[] src, int srcOff, float[] dst, int dstOff, int len)
+    {
+        System.arraycopy(src, srcOff, dst, dstOff, len);
+    }
+
+    @Override
+    public void convert(long[] src, int srcOff, long[] dst, int dstOff, int len)
+    {
+        System.arraycopy(src, srcOff, dst, dstOff, len);
+    }
+
+    @Override
+    public DoubleUnaryOperator toDoubleOperator()
+    {
+        return DoubleUnaryOperator.identity();
+    }
 
 
     @Override
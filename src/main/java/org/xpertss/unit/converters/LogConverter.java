@@ -31,6 +31,7 @@ package org.xpertss.unit.converters;
 
 
 import org.xpertss.unit.math.Calculator;
+import org.xpertss.unit.math.NumberSystem;
 import xpertss.measure.UnitConverter;
 import java.util.Objects;
 
@@ -79,6 +80,12 @@ public final class LogConverter extends AbstractConverter { // implements
 		return false;
 	}
 
+	@Override
+	protected int normalFormOrder()
+	{
+		return 7;
+	}
+
 	@Override
 	protected boolean canReduceWith(AbstractConverter that)
 	{
@@ -129,12 +136,34 @@ public final class LogConverter extends AbstractConverter { // implements
     @Override
     protected Number convertWhenNotIdentity(Number value)
 	{
-        return Calculator.of(value)
+		if(value instanceof Double || value instanceof Float) {
+			return Calculator.of(value)
+									  .log()
+									  .divide(logOfBase)
+									  .peek();
+		}
+		// exact values get an exact logarithm of the base as well
+		return Calculator.of(value)
 								  .log()
-								  .divide(logOfBase)
+								  .divide(NumberSystem.current().logOfBase(base))
 								  .peek();
     }
 
+	@Override
+	protected double convertWhenNotIdentity(double value)
+	{
+		return Math.log(value) / logOfBase;
+	}
+
+	@Override
+	protected void convertWhenNotIdentity(double[] src, int srcOff, double[] dst, int dstOff, int len)
+	{
+		final double logOfBase = this.logOfBase;
+		for(int i = 0; i < len; i++) {
+			dst[dstOff + i] = Math.log(src[srcOff + i]) / logOfBase;
+		}
+	}
+
 	@Override
 	public boolean isLinear()
 	{
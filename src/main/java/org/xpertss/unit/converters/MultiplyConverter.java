@@ -1,13 +1,14 @@
 package org.xpertss.unit.converters;
 
-import org.xpertss.unit.math.DefaultNumberSystem;
-
 import org.xpertss.unit.math.NumberSystem;
 import org.xpertss.unit.math.RationalNumber;
+import xpertss.measure.BinaryPrefix;
 import xpertss.measure.Prefix;
 import xpertss.measure.UnitConverter;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * This class represents a converter multiplying numeric values by a constant
@@ -76,19 +77,11 @@ public interface MultiplyConverter extends UnitConverter, Comparable<UnitConvert
 			if (narrowedFactor instanceof BigInteger) {
 				return ofRational(RationalNumber.ofInteger((BigInteger) narrowedFactor));
 			}
-
-			// TODO[220] yet only implemented for the default number system,
-			// any other implementation might behave differently;
-			// could fall back to long, but instead fail early
-			if (!(ns instanceof DefaultNumberSystem)) {
-				throw new UnsupportedOperationException("not yet supported");
+			if (narrowedFactor instanceof Long || narrowedFactor instanceof Integer
+					|| narrowedFactor instanceof Short || narrowedFactor instanceof Byte
+					|| narrowedFactor instanceof AtomicLong || narrowedFactor instanceof AtomicInteger) {
+				return ofRational(RationalNumber.ofInteger(narrowedFactor.longValue()));
 			}
-
-			return ofRational(RationalNumber.ofInteger(narrowedFactor.longValue()));
-		}
-
-		if (narrowedFactor instanceof Double || narrowedFactor instanceof Float) {
-			return of(narrowedFactor.doubleValue());
 		}
 
 		if (narrowedFactor instanceof BigDecimal) {
@@ -97,9 +90,9 @@ public interface MultiplyConverter extends UnitConverter, Comparable<UnitConvert
 			return ofRational(rational);
 		}
 
-		// TODO[220] any other case not supported yet, could fall back to double, but
-		// instead fail early
-		throw new UnsupportedOperationException("not yet supported");
+		// doubles, floats and the types of other number systems, all of which have
+		// an exact rational value as far as their double value goes
+		return of(narrowedFactor.doubleValue());
 	}
 
 	/**
@@ -129,6 +122,11 @@ public interface MultiplyConverter extends UnitConverter, Comparable<UnitConvert
 			return identity();
 		}
 
+		// binary prefixes are powers of two, these convert using shifts
+		if (prefix instanceof BinaryPrefix) {
+			return PowerOfIntConverter.of(prefix);
+		}
+
 	    // this is an optimization for the special case of exponent == 1, where we simply use
 		// Prefix.getValue() as the factor 
         if (prefix.getExponent() == 1) {
@@ -1,6 +1,8 @@
 package org.xpertss.unit.converters;
 
 import org.xpertss.unit.math.Calculator;
+import org.xpertss.unit.math.LongMath;
+import org.xpertss.unit.math.NumberSystem;
 import org.xpertss.unit.math.RationalNumber;
 import xpertss.measure.Prefix;
 import xpertss.measure.UnitConverter;
@@ -9,6 +11,10 @@ import java.util.Objects;
 
 /**
  * UnitConverter for numbers in base^exponent representation.
+ * <p/>
+ * Powers of two (e.g. the 1024^n of binary prefixes) are normalized to base 2, these
+ * convert using shifts and {@link Math#scalb(double, int)} and compose with each other
+ * by adding exponents.
  */
 public final class PowerOfIntConverter extends AbstractConverter implements MultiplyConverter {
 
@@ -17,6 +23,11 @@ public final class PowerOfIntConverter extends AbstractConverter implements Mult
 	private final int hashCode;
 	private final RationalNumber rationalFactor;
 
+	// primitive forms of |base^exponent| used by the double and long conversion paths
+	private final double doubleMagnitude;
+	private final boolean longExact;
+	private final long longMagnitude;
+
 	/**
 	 * Creates a converter with the specified Prefix.
 	 * 
@@ -37,6 +48,10 @@ public final class PowerOfIntConverter extends AbstractConverter implements Mult
 	 */
 	static PowerOfIntConverter of(int base, int exponent)
 	{
+		if(base > 2 && Integer.bitCount(base) == 1) {
+			// (2^k)^exponent = 2^(k * exponent)
+			return new PowerOfIntConverter(2, Math.multiplyExact(exponent, Integer.numberOfTrailingZeros(base)));
+		}
 		return new PowerOfIntConverter(base, exponent);
 	}
 	
@@ -49,7 +64,7 @@ public final class PowerOfIntConverter extends AbstractConverter implements Mult
 	 */
 	static PowerOfIntConverter of(Number base, int exponent)
 	{
-		return new PowerOfIntConverter(base.intValue(), exponent);
+		return of(base.intValue(), exponent);
 	}
 
 	protected PowerOfIntConverter(int base, int exponent)
@@ -60,7 +75,11 @@ public final class PowerOfIntConverter extends AbstractConverter implements Mult
 		this.base = base;
 		this.exponent = exponent;
 		this.hashCode = Objects.hash(base, exponent);
-		this.rationalFactor = calculateRationalNumberFactor();
+		final BigInteger magnitude = BigInteger.valueOf(base).pow(Math.abs(exponent));
+		this.rationalFactor = calculateRationalNumberFactor(magnitude);
+		this.doubleMagnitude = magnitude.doubleValue();
+		this.longExact = magnitude.bitLength() < Long.SIZE;
+		this.longMagnitude = longExact ? magnitude.longValue() : 0L;
 	}
 
 	public int getBase()
@@ -84,12 +103,21 @@ public final class PowerOfIntConverter extends AbstractConverter implements Mult
 		// and there is no composition, that changes the base
 	}
 
+	@Override
+	protected int normalFormOrder()
+	{
+		return 1;
+	}
+
 	@Override
 	protected boolean canReduceWith(AbstractConverter that)
 	{
 		if (that instanceof PowerOfIntConverter) {
 			return ((PowerOfIntConverter) that).base == this.base;
 		}
+		if (that instanceof AddConverter || that instanceof AffineConverter) {
+			return true;
+		}
 		return that instanceof RationalConverter;
 	}
 
@@ -105,6 +133,9 @@ public final class PowerOfIntConverter extends AbstractConverter implements Mult
 		if (that instanceof RationalConverter) {
 			return (AbstractConverter) toRationalConverter().concatenate(that);
 		}
+		if (that instanceof AddConverter || that instanceof AffineConverter) {
+			return AffineConverter.compose(this, that);
+		}
 		throw new IllegalStateException(String.format(
 				"%s.simpleCompose() not handled for converter %s", 
 				this, that));
@@ -118,10 +149,126 @@ public final class PowerOfIntConverter extends AbstractConverter implements Mult
 
     @Override
     protected Number convertWhenNotIdentity(Number value) {
+        if(base == 2 && (value instanceof Long || value instanceof Integer)) {
+            final long v = value.longValue();
+            if(exponent > 0 && Long.numberOfLeadingZeros(Math.abs(v)) > exponent + 1) {
+                return NumberSystem.current().narrow(v << exponent);
+            }
+            if(exponent < 0 && Long.numberOfTrailingZeros(v) >= -exponent) {
+                return NumberSystem.current().narrow(v >> -exponent);
+            }
+        }
         return Calculator.of(rationalFactor)
                 .multiply(value)
                 .peek();
     }
+
+	@Override
+	protected double convertWhenNotIdentity(double value)
+	{
+		if(base == 2) return Math.scalb(value, exponent);
+		return (exponent > 0) ? value * doubleMagnitude : value / doubleMagnitude;
+	}
+
+	@Override
+	protected long convertWhenNotIdentity(long value)
+	{
+		if(base == 2) {
+			return (exponent > 0) ? LongMath.shiftLeftExact(value, exponent)
+						: LongMath.shiftRightAndRound(value, -exponent);
+		}
+		if(!longExact) {
+			return LongMath.multiplyDivideAndRound(value, rationalFactor.getDividend(), rationalFactor.getDivisor());
+		}
+		if(exponent > 0) {
+			return Math.multiplyExact(value, longMagnitude);
+		}
+		return (longMagnitude < 0) ? LongMath.divideAndRound(Math.negateExact(value), -longMagnitude)
+					: LongMath.divideAndRound(value, longMagnitude);
+	}
+
+	@Override
+	protected long convertExactWhenNotIdentity(long value)
+	{
+		if(base == 2) {
+			return (exponent > 0) ? LongMath.shiftLeftExact(value, exponent)
+						: LongMath.shiftRightExact(value, -exponent);
+		}
+		if(!longExact) {
+			return super.convertExactWhenNotIdentity(value);
+		}
+		return (exponent > 0) ? Math.multiplyExact(value, longMagnitude)
+					: LongMath.divideExact(value, longMagnitude);
+	}
+
+	@Override
+	protected void convertWhenNotIdentity(double[] src, int srcOff, double[] dst, int dstOff, int len)
+	{
+		if(base == 2) {
+			// like the scalar conversion, exact even where 2^|exponent| overflows a double
+			final int scale = exponent;
+			for(int i = 0; i < len; i++) {
+				dst[dstOff + i] = Math.scalb(src[srcOff + i], scale);
+			}
+			return;
+		}
+		final double magnitude = doubleMagnitude;
+		if(exponent > 0) {
+			for(int i = 0; i < len; i++) {
+				dst[dstOff + i] = src[srcOff + i] * magnitude;
+			}
+		} else {
+			for(int i = 0; i < len; i++) {
+				dst[dstOff + i] = src[srcOff + i] / magnitude;
+			}
+		}
+	}
+
+	@Override
+	protected void convertWhenNotIdentity(float[] src, int srcOff, float[] dst, int dstOff, int len)
+	{
+		if(base == 2) {
+			final int scale = exponent;
+			for(int i = 0; i < len; i++) {
+				dst[dstOff + i] = (float) Math.scalb((double) src[srcOff + i], scale);
+			}
+			return;
+		}
+		final double magnitude = doubleMagnitude;
+		if(exponent > 0) {
+			for(int i = 0; i < len; i++) {
+				dst[dstOff + i] = (float) (src[srcOff + i] * magnitude);
+			}
+		} else {
+			for(int i = 0; i < len; i++) {
+				dst[dstOff + i] = (float) (src[srcOff + i] / magnitude);
+			}
+		}
+	}
+
+	@Override
+	protected void convertWhenNotIdentity(long[] src, int srcOff, long[] dst, int dstOff, int len)
+	{
+		if(base == 2) {
+			final int shift = Math.abs(exponent);
+			if(exponent > 0) {
+				for(int i = 0; i < len; i++) {
+					dst[dstOff + i] = LongMath.shiftLeftExact(src[srcOff + i], shift);
+				}
+			} else {
+				for(int i = 0; i < len; i++) {
+					dst[dstOff + i] = LongMath.shiftRightAndRound(src[srcOff + i], shift);
+				}
+			}
+		} else if(longExact && exponent > 0) {
+			final long magnitude = longMagnitude;
+			for(int i = 0; i < len; i++) {
+				dst[dstOff + i] = Math.multiplyExact(src[srcOff + i], magnitude);
+			}
+		} else {
+			super.convertWhenNotIdentity(src, srcOff, dst, dstOff, len);
+		}
+	}
     
 	@Override
 	public boolean equals(Object obj)
@@ -179,12 +326,11 @@ public final class PowerOfIntConverter extends AbstractConverter implements Mult
 
 	// -- HELPER
 	
-	private RationalNumber calculateRationalNumberFactor()
+	private RationalNumber calculateRationalNumberFactor(BigInteger bintFactor)
 	{
         if(exponent==0) {
             return RationalNumber.ONE;
         }
-        BigInteger bintFactor = BigInteger.valueOf(base).pow(Math.abs(exponent));
         if(exponent>0) {
             return RationalNumber.ofInteger(bintFactor);
         }
@@ -13,11 +13,10 @@ import java.util.Objects;
 
  */
 final class PowerOfPiConverter extends AbstractConverter implements MultiplyConverter {
-	private final Object $lock1 = new Object[0]; // serializable lock for 'scaleFactor'
-	
 	private final int exponent;
 	private final int hashCode;
-	private transient Number scaleFactor;
+	private final double doubleFactor;
+	private transient volatile Number scaleFactor; // lazily computed, racy single-check
 
 	/**
      * A converter by Pi to the power of 1.
@@ -39,6 +38,7 @@ final class PowerOfPiConverter extends AbstractConverter implements MultiplyConv
 	{
 		this.exponent = exponent;
 		this.hashCode = Objects.hash(exponent);
+		this.doubleFactor = Math.pow(Math.PI, exponent);
 	}
 
 	public int getExponent()
@@ -72,35 +72,70 @@ final class PowerOfPiConverter extends AbstractConverter implements MultiplyConv
               .peek();
     }
 
+	@Override
+	protected double convertWhenNotIdentity(double value)
+	{
+		return value * doubleFactor;
+	}
+
+	@Override
+	protected void convertWhenNotIdentity(double[] src, int srcOff, double[] dst, int dstOff, int len)
+	{
+		final double factor = doubleFactor;
+		for(int i = 0; i < len; i++) {
+			dst[dstOff + i] = src[srcOff + i] * factor;
+		}
+	}
+
+	@Override
+	protected void convertWhenNotIdentity(float[] src, int srcOff, float[] dst, int dstOff, int len)
+	{
+		final double factor = doubleFactor;
+		for(int i = 0; i < len; i++) {
+			dst[dstOff + i] = (float) (src[srcOff + i] * factor);
+		}
+	}
+
+	@Override
+	protected int normalFormOrder()
+	{
+		return 3;
+	}
+
 	@Override
 	protected boolean canReduceWith(AbstractConverter that)
 	{
+		if (that instanceof AddConverter || that instanceof AffineConverter) {
+			return true;
+		}
 		return that instanceof PowerOfPiConverter;
 	}
 
 	@Override
 	protected AbstractConverter reduce(AbstractConverter that)
 	{
+		if (that instanceof AddConverter || that instanceof AffineConverter) {
+			return AffineConverter.compose(this, that);
+		}
 		return new PowerOfPiConverter(this.exponent + ((PowerOfPiConverter)that).exponent);
 	}
 	
     public Number getValue()
 	{
-	    
-	    synchronized ($lock1) {
-	       if(scaleFactor==null) {
-	           int nbrDigits = MathContext.DECIMAL128.getPrecision();
-	           if (nbrDigits == 0)
-	               throw new ArithmeticException("Pi multiplication with unlimited precision");
-	           BigDecimal pi = Pi.ofNumDigits(nbrDigits);
-	           
-	           scaleFactor = Calculator.of(pi)
+	    // racy single-check: concurrent callers may compute the same immutable value,
+	    // the volatile write publishes it safely
+	    Number result = scaleFactor;
+	    if(result==null) {
+	        int nbrDigits = MathContext.DECIMAL128.getPrecision();
+	        if (nbrDigits == 0)
+	            throw new ArithmeticException("Pi multiplication with unlimited precision");
+	        BigDecimal pi = Pi.ofNumDigits(nbrDigits);
+
+	        scaleFactor = result = Calculator.of(pi)
 	                   				.power(exponent)
 	                   				.peek();
-	       }
-        }
-
-        return scaleFactor;
+	    }
+        return result;
     }
 
 	@Override
@@ -1,6 +1,7 @@
 package org.xpertss.unit.converters;
 
 import org.xpertss.unit.math.Calculator;
+import org.xpertss.unit.math.LongMath;
 import org.xpertss.unit.math.RationalNumber;
 import xpertss.measure.UnitConverter;
 import java.math.BigInteger;
@@ -17,6 +18,16 @@ public final class RationalConverter extends AbstractConverter implements Multip
      */
 	private final RationalNumber factor;
 
+	/**
+	 * Primitive forms of the scale factor, used by the {@code double} and {@code long}
+	 * conversion paths. {@code longExact} is set when dividend and divisor fit into a long.
+	 */
+	private final double doubleDividend;
+	private final double doubleDivisor;
+	private final boolean longExact;
+	private final long longDividend;
+	private final long longDivisor;
+
 	/**
      * Creates a rational converter with the specified scale factor.
      *
@@ -29,6 +40,18 @@ public final class RationalConverter extends AbstractConverter implements Multip
 	{
         Objects.requireNonNull(factor);
         this.factor = factor;
+        this.longExact = factor.isLong();
+        this.longDividend = longExact ? factor.getLongDividend() : 0L;
+        this.longDivisor = longExact ? factor.getLongDivisor() : 1L;
+        final double dividend = longExact ? longDividend : factor.getDividend().doubleValue();
+        final double divisor = longExact ? longDivisor : factor.getDivisor().doubleValue();
+        if(Double.isInfinite(dividend) || Double.isInfinite(divisor)) {
+            this.doubleDividend = factor.doubleValue();
+            this.doubleDivisor = 1d;
+        } else {
+            this.doubleDividend = dividend;
+            this.doubleDivisor = divisor;
+        }
     }
     
 	/**
@@ -45,7 +68,7 @@ public final class RationalConverter extends AbstractConverter implements Multip
 	 */
 	RationalConverter(BigInteger dividend, BigInteger divisor)
 	{
-	    factor = RationalNumber.of(dividend, divisor);
+	    this(RationalNumber.of(dividend, divisor));
 	}
 
 	/**
@@ -60,7 +83,7 @@ public final class RationalConverter extends AbstractConverter implements Multip
 	 */
 	RationalConverter(long dividend, long divisor)
 	{
-	    factor = RationalNumber.of(dividend, divisor);
+	    this(RationalNumber.of(dividend, divisor));
 	}
 
 	/**
@@ -135,11 +158,92 @@ public final class RationalConverter extends AbstractConverter implements Multip
               .multiply(value)
               .peek();
     }
+
+	@Override
+	protected double convertWhenNotIdentity(double value)
+	{
+		return (doubleDivisor == 1d) ? value * doubleDividend : scale(value, doubleDividend, doubleDivisor);
+	}
+
+	@Override
+	protected long convertWhenNotIdentity(long value)
+	{
+		if(longExact) {
+			return LongMath.multiplyDivideAndRound(value, longDividend, longDivisor);
+		}
+		return LongMath.multiplyDivideAndRound(value, factor.getDividend(), factor.getDivisor());
+	}
+
+	@Override
+	protected long convertExactWhenNotIdentity(long value)
+	{
+		if(longExact) {
+			return LongMath.multiplyDivideExact(value, longDividend, longDivisor);
+		}
+		return super.convertExactWhenNotIdentity(value);
+	}
+
+	@Override
+	protected void convertWhenNotIdentity(double[] src, int srcOff, double[] dst, int dstOff, int len)
+	{
+		final double dividend = doubleDividend;
+		final double divisor = doubleDivisor;
+		if(divisor == 1d) {
+			for(int i = 0; i < len; i++) {
+				dst[dstOff + i] = src[srcOff + i] * dividend;
+			}
+		} else {
+			for(int i = 0; i < len; i++) {
+				dst[dstOff + i] = scale(src[srcOff + i], dividend, divisor);
+			}
+		}
+	}
+
+	@Override
+	protected void convertWhenNotIdentity(float[] src, int srcOff, float[] dst, int dstOff, int len)
+	{
+		final double dividend = doubleDividend;
+		final double divisor = doubleDivisor;
+		if(divisor == 1d) {
+			for(int i = 0; i < len; i++) {
+				dst[dstOff + i] = (float) (src[srcOff + i] * dividend);
+			}
+		} else {
+			for(int i = 0; i < len; i++) {
+				dst[dstOff + i] = (float) scale(src[srcOff + i], dividend, divisor);
+			}
+		}
+	}
+
+	@Override
+	protected void convertWhenNotIdentity(long[] src, int srcOff, long[] dst, int dstOff, int len)
+	{
+		if(!longExact) {
+			super.convertWhenNotIdentity(src, srcOff, dst, dstOff, len);
+		} else if(longDivisor == 1L) {
+			final long dividend = longDividend;
+			for(int i = 0; i < len; i++) {
+				dst[dstOff + i] = Math.multiplyExact(src[srcOff + i], dividend);
+			}
+		} else {
+			final long dividend = longDividend;
+			final long divisor = longDivisor;
+			for(int i = 0; i < len; i++) {
+				dst[dstOff + i] = LongMath.multiplyDivideAndRound(src[srcOff + i], dividend, divisor);
+			}
+		}
+	}
 	
 	@Override
 	public boolean isIdentity()
 	{
-		return factor.compareTo(RationalNumber.ONE)==0;
+		return factor.equals(RationalNumber.ONE);
+	}
+
+	@Override
+	protected int normalFormOrder()
+	{
+		return 2;
 	}
 
 	@Override
@@ -148,6 +252,9 @@ public final class RationalConverter extends AbstractConverter implements Multip
 		if (that instanceof RationalConverter) {
 			return true; 
 		}
+		if (that instanceof AddConverter || that instanceof AffineConverter) {
+			return true;
+		}
 		return that instanceof PowerOfIntConverter;
 	}
 
@@ -160,6 +267,9 @@ public final class RationalConverter extends AbstractConverter implements Multip
 		if (that instanceof PowerOfIntConverter) {
 			return composeSameType(((PowerOfIntConverter) that).toRationalConverter()); 
 		}
+		if (that instanceof AddConverter || that instanceof AffineConverter) {
+			return AffineConverter.compose(this, that);
+		}
 		throw new IllegalStateException(String.format(
 				"%s.simpleCompose() not handled for converter %s", 
 				this, that));
@@ -214,14 +324,19 @@ public final class RationalConverter extends AbstractConverter implements Multip
 
 	// -- HELPER
 
+	/**
+	 * Returns {@code value * dividend / divisor}, dividing first if the product overflows
+	 * while the result may still be finite.
+	 */
+	private static double scale(double value, double dividend, double divisor)
+	{
+		final double product = value * dividend;
+		return Double.isInfinite(product) ? value / divisor * dividend : product / divisor;
+	}
+
 	private AbstractConverter composeSameType(RationalConverter that)
 	{
-		BigInteger newDividend = this.getDividend().multiply(that.getDividend());
-		BigInteger newDivisor = this.getDivisor().multiply(that.getDivisor());
-		BigInteger gcd = newDividend.gcd(newDivisor);
-		newDividend = newDividend.divide(gcd);
-		newDivisor = newDivisor.divide(gcd);
-		return (newDividend.equals(BigInteger.ONE) && newDivisor.equals(BigInteger.ONE)) 
-					? IDENTITY  : new RationalConverter(newDividend, newDivisor);
+		final RationalNumber newFactor = this.factor.multiply(that.factor);
+		return RationalNumber.ONE.equals(newFactor) ? IDENTITY : new RationalConverter(newFactor);
 	}
 }
@@ -0,0 +1,147 @@
+package org.xpertss.unit.math;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Arbitrary precision natural exponential and logarithm of {@link BigDecimal}s.
+ * <p/>
+ * The exponential is summed as a Taylor series after halving its argument below
+ * {@code 1/2}, the result is then squared back. The logarithm is solved with Halley's
+ * iteration on the exponential, starting at the {@code double} approximation, except
+ * close to {@code 1} where the {@code atanh} series is used to keep the relative error
+ * small. Arguments are reduced to {@code [0.1, 10)} by powers of ten beforehand.
+ */
+final class BigDecimalMath {
+
+   private static final BigDecimal TWO = BigDecimal.valueOf(2);
+   private static final BigDecimal TEN = BigDecimal.TEN;
+   private static final BigDecimal NEAR_ONE = new BigDecimal("0.1");
+
+   /**
+    * Upper bound of the magnitude of exponents, beyond which the result is not
+    * representable as a {@link BigDecimal}.
+    */
+   private static final double MAX_EXPONENT = Integer.MAX_VALUE * Math.log(10);
+
+   /**
+    * Memoization of ln(10) by math context, used to reduce arguments of the logarithm.
+    */
+   private static final Map<MathContext, BigDecimal> lnTenCache = new ConcurrentHashMap<>();
+
+   /**
+    * Memoization of the natural logarithm of logarithmic bases by math context.
+    */
+   private static final Map<MathContext, Map<BigDecimal, BigDecimal>> lnBaseCache = new ConcurrentHashMap<>();
+
+   // this is a utility class, don't instantiate
+   private BigDecimalMath() {}
+
+   /**
+    * Returns {@code e^x} rounded according to the given math context.
+    *
+    * @throws ArithmeticException if the result is not representable
+    */
+   static BigDecimal exp(BigDecimal x, MathContext mc)
+   {
+      if(x.signum() == 0) return BigDecimal.ONE;
+      final double magnitude = x.abs().doubleValue();
+      if(magnitude > MAX_EXPONENT) {
+         throw new ArithmeticException(String.format("exp(%s) is not representable", x));
+      }
+
+      // halve x until it is below 1/2, each halving costs about a third of a digit when squaring back
+      final int halvings = (magnitude < 0.5) ? 0 : Math.getExponent(magnitude) + 2;
+      final MathContext wmc = new MathContext(mc.getPrecision() + halvings + 10, RoundingMode.HALF_EVEN);
+      final BigDecimal r = x.divide(TWO.pow(halvings), wmc);
+
+      final BigDecimal nearZero = BigDecimal.ONE.movePointLeft(wmc.getPrecision() + 1);
+      BigDecimal sum = BigDecimal.ONE;
+      BigDecimal term = BigDecimal.ONE;
+      for(int k = 1; term.abs().compareTo(nearZero) >= 0; k++) {
+         term = term.multiply(r, wmc).divide(BigDecimal.valueOf(k), wmc);
+         sum = sum.add(term, wmc);
+      }
+      for(int i = 0; i < halvings; i++) {
+         sum = sum.multiply(sum, wmc);
+      }
+      return sum.round(mc);
+   }
+
+   /**
+    * Returns the natural logarithm of {@code x} rounded according to the given math context.
+    *
+    * @throws ArithmeticException if {@code x} is not positive
+    */
+   static BigDecimal log(BigDecimal x, MathContext mc)
+   {
+      if(x.signum() <= 0) {
+         throw new ArithmeticException(String.format("log(%s) is undefined", x));
+      }
+      if(x.compareTo(BigDecimal.ONE) == 0) return BigDecimal.ZERO;
+
+      // x = m * 10^e with 1 <= m < 10
+      final int e = x.precision() - x.scale() - 1;
+      final int digits = Integer.toString(Math.abs(e)).length();
+      final MathContext wmc = new MathContext(mc.getPrecision() + digits + 10, RoundingMode.HALF_EVEN);
+      if(e == 0 || e == -1) {
+         return logReduced(x, wmc).round(mc);
+      }
+      final BigDecimal lnM = logReduced(x.movePointLeft(e), wmc);
+      return lnM.add(lnTen(wmc).multiply(BigDecimal.valueOf(e), wmc), wmc).round(mc);
+   }
+
+   /**
+    * Returns the natural logarithm of the given logarithmic base, these are memoized as
+    * only few distinct bases are in use.
+    */
+   static BigDecimal logOfBase(BigDecimal base, MathContext mc)
+   {
+      return lnBaseCache.computeIfAbsent(mc, key -> new ConcurrentHashMap<>())
+                           .computeIfAbsent(base.stripTrailingZeros(), key -> log(key, mc));
+   }
+
+   // -- HELPER
+
+   private static BigDecimal lnTen(MathContext mc)
+   {
+      return lnTenCache.computeIfAbsent(mc, key -> logReduced(TEN, key));
+   }
+
+   /**
+    * Natural logarithm of {@code x} within the range of {@code double}.
+    */
+   private static BigDecimal logReduced(BigDecimal x, MathContext mc)
+   {
+      if(x.compareTo(BigDecimal.ONE) == 0) return BigDecimal.ZERO;
+      final BigDecimal nearZero = BigDecimal.ONE.movePointLeft(mc.getPrecision());
+      if(x.subtract(BigDecimal.ONE).abs().compareTo(NEAR_ONE) < 0) {
+         // ln(x) = 2 * atanh(z) = 2 * (z + z^3/3 + z^5/5 + ...) with z = (x - 1) / (x + 1)
+         final BigDecimal z = x.subtract(BigDecimal.ONE).divide(x.add(BigDecimal.ONE), mc);
+         final BigDecimal z2 = z.multiply(z, mc);
+         final BigDecimal threshold = z.abs().multiply(nearZero);
+         BigDecimal power = z;
+         BigDecimal sum = z;
+         for(int k = 3; ; k += 2) {
+            power = power.multiply(z2, mc);
+            final BigDecimal term = power.divide(BigDecimal.valueOf(k), mc);
+            if(term.abs().compareTo(threshold) < 0) break;
+            sum = sum.add(term, mc);
+         }
+         return sum.multiply(TWO, mc);
+      }
+      // Halley's iteration y' = y + 2 * (x - e^y) / (x + e^y), tripling the digits each time
+      BigDecimal y = new BigDecimal(Math.log(x.doubleValue()));
+      for(int i = 0; i < 64; i++) {
+         final BigDecimal ey = exp(y, mc);
+         final BigDecimal delta = x.subtract(ey).multiply(TWO).divide(x.add(ey), mc);
+         y = y.add(delta, mc);
+         if(delta.abs().compareTo(y.abs().multiply(nearZero)) <= 0) break;
+      }
+      return y;
+   }
+
+}
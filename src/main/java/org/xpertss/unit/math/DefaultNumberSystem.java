@@ -12,11 +12,59 @@ import java.util.function.UnaryOperator;
 /**
  * {@link NumberSystem} implementation to support Java's built-in {@link Number}s and the
  * {@link RationalNumber} type.
+ * <p/>
+ * The exponential and logarithm of exact numbers (integers, {@link RationalNumber}s and
+ * {@link BigDecimal}s) are calculated to the precision of this number system's
+ * {@link MathContext}, which defaults to the value of the system property
+ * {@value #PRECISION_PROPERTY} (or {@link MathContext#DECIMAL128}'s precision).
+ * {@code double} and {@code float} numbers keep using {@link Math#exp(double)} and
+ * {@link Math#log(double)}.
  */
 public class DefaultNumberSystem implements NumberSystem {
 
+    /**
+     * The system property holding the number of digits of exponentials and logarithms of
+     * exact numbers.
+     */
+    public static final String PRECISION_PROPERTY = "xpertss.measure.transcendentalPrecision";
+
     static final NumberSystem INSTANCE = new DefaultNumberSystem();
 
+    private final MathContext mathContext;
+
+    /**
+     * Creates a number system calculating exponentials and logarithms to the precision
+     * given by the system property {@value #PRECISION_PROPERTY}.
+     */
+    public DefaultNumberSystem()
+    {
+        this(new MathContext(Integer.getInteger(PRECISION_PROPERTY, MathContext.DECIMAL128.getPrecision()),
+                                RoundingMode.HALF_EVEN));
+    }
+
+    /**
+     * Creates a number system calculating exponentials and logarithms according to the
+     * given math context.
+     *
+     * @param mathContext the precision and rounding of exponentials and logarithms
+     * @throws IllegalArgumentException if the math context has unlimited precision
+     */
+    public DefaultNumberSystem(MathContext mathContext)
+    {
+        if(mathContext.getPrecision() == 0) {
+            throw new IllegalArgumentException("Exponentials and logarithms require a limited precision");
+        }
+        this.mathContext = mathContext;
+    }
+
+    /**
+     * Returns the math context bounding the precision of exponentials and logarithms.
+     */
+    public MathContext getMathContext()
+    {
+        return mathContext;
+    }
+
     /**
      *  In order of increasing number type 'widening'.
      */
@@ -213,7 +261,9 @@ public class DefaultNumberSystem implements NumberSystem {
     public Number reciprocal(Number number)
     {
         if(isIntegerOnly(number)) {
-            return RationalNumber.of(BigInteger.ONE, integerToBigInteger(number));
+            return number instanceof BigInteger
+                    ? RationalNumber.of(BigInteger.ONE, (BigInteger) number)
+                    : RationalNumber.of(1L, number.longValue());
         }
         if(number instanceof BigDecimal) {
             return RationalNumber.of((BigDecimal) number).reciprocal();
@@ -385,15 +435,35 @@ public class DefaultNumberSystem implements NumberSystem {
     @Override
     public Number exp(Number number)
     {
-        //TODO[220] this is a poor implementation, certainly we can do better using BigDecimal 
-        return Math.exp(number.doubleValue());
+        if(number instanceof Double || number instanceof Float) {
+            return Math.exp(number.doubleValue());
+        }
+        if(isZero(number)) {
+            return 1;
+        }
+        return BigDecimalMath.exp(exactToBigDecimal(number), mathContext);
     }
     
     @Override
     public Number log(Number number)
     {
-        //TODO[220] this is a poor implementation, certainly we can do better using BigDecimal
-        return Math.log(number.doubleValue());
+        if(number instanceof Double || number instanceof Float) {
+            return Math.log(number.doubleValue());
+        }
+        if(isOne(number)) {
+            return 0;
+        }
+        return BigDecimalMath.log(exactToBigDecimal(number), mathContext);
+    }
+    
+    @Override
+    public Number logOfBase(Number base)
+    {
+        if(base instanceof Double || base instanceof Float) {
+            // the base is exact as far as it goes, the logarithm should be as well
+            return BigDecimalMath.logOfBase(BigDecimal.valueOf(base.doubleValue()), mathContext);
+        }
+        return BigDecimalMath.logOfBase(exactToBigDecimal(base), mathContext);
     }
     
     @Override
@@ -454,6 +524,9 @@ public class DefaultNumberSystem implements NumberSystem {
             
             final RationalNumber rational = ((RationalNumber) number);
             
+            if(rational.isInteger() && rational.isLong()) {
+                return narrow(rational.getLongDividend()); // divisor is ONE
+            }
             return rational.isInteger() 
                     ? narrow(rational.getDividend()) // divisor is ONE
                             : number; // cannot narrow to integer;
@@ -594,6 +667,28 @@ public class DefaultNumberSystem implements NumberSystem {
         return BigInteger.valueOf(number.longValue());
     }
     
+    private RationalNumber integerToRational(Number number)
+    {
+        if(number instanceof BigInteger) {
+            return RationalNumber.ofInteger((BigInteger) number);
+        }
+        return RationalNumber.ofInteger(number.longValue());
+    }
+    
+    /**
+     * Like {@link #toBigDecimal(Number)}, but also converts {@link RationalNumber}s, to the
+     * working precision of exponentials and logarithms.
+     */
+    private BigDecimal exactToBigDecimal(Number number)
+    {
+        if(number instanceof RationalNumber) {
+            final RationalNumber rational = (RationalNumber) number;
+            final MathContext mc = new MathContext(mathContext.getPrecision() + 10, RoundingMode.HALF_EVEN);
+            return new BigDecimal(rational.getDividend()).divide(new BigDecimal(rational.getDivisor()), mc);
+        }
+        return toBigDecimal(number);
+    }
+    
     private BigDecimal toBigDecimal(Number number)
     {
         if(number instanceof BigDecimal) {
@@ -661,7 +756,7 @@ public class DefaultNumberSystem implements NumberSystem {
             }
             
             return ((RationalNumber) wide).add(
-                    RationalNumber.ofInteger(integerToBigInteger(narrow)));
+                    integerToRational(narrow));
         }
         
         // at this point we know, that wide is one of {BigDecimal, Double, Float}
@@ -742,7 +837,7 @@ public class DefaultNumberSystem implements NumberSystem {
             }
             
             return ((RationalNumber) wide).multiply(
-                    RationalNumber.ofInteger(integerToBigInteger(narrow)));
+                    integerToRational(narrow));
         }
         
         // at this point we know, that wide is one of {BigDecimal, Double, Float}
@@ -820,7 +915,7 @@ public class DefaultNumberSystem implements NumberSystem {
             }
             
             return ((RationalNumber) wide).compareTo(
-                    RationalNumber.ofInteger(integerToBigInteger(narrow)));
+                    integerToRational(narrow));
         }
         
         // at this point we know, that wide is one of {BigDecimal, Double, Float}
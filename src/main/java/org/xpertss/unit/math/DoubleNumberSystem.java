@@ -0,0 +1,151 @@
+package org.xpertss.unit.math;
+
+/**
+ * {@link NumberSystem} implementation doing all arithmetic in IEEE 754 {@code double}
+ * precision.
+ * <p>
+ * Arguments of any {@link Number} type are taken at their {@link Number#doubleValue()},
+ * results are always {@link Double}s. There is no narrowing to integers or rational
+ * numbers and no {@link java.math.BigDecimal} arithmetic, hence results are subject to
+ * {@code double} rounding. Non-finite values are propagated rather than rejected.
+ * <p>
+ * Meant for throughput critical deployments which accept rounding, select it with the
+ * system property {@value NumberSystems#NUMBER_SYSTEM_PROPERTY} or a
+ * {@link NumberSystems#use(NumberSystem) scope}.
+ */
+public class DoubleNumberSystem implements NumberSystem {
+
+    @Override
+    public Number add(Number x, Number y)
+    {
+        return x.doubleValue() + y.doubleValue();
+    }
+
+    @Override
+    public Number subtract(Number x, Number y)
+    {
+        return x.doubleValue() - y.doubleValue();
+    }
+
+    @Override
+    public Number multiply(Number x, Number y)
+    {
+        return x.doubleValue() * y.doubleValue();
+    }
+
+    @Override
+    public Number divide(Number x, Number y)
+    {
+        return x.doubleValue() / y.doubleValue();
+    }
+
+    @Override
+    public Number[] divideAndRemainder(Number x, Number y, boolean roundRemainderTowardsZero)
+    {
+        final double dividend = x.doubleValue();
+        final double divisor = y.doubleValue();
+        if(divisor == 0) {
+            throw new ArithmeticException("division by zero");
+        }
+        // like the DefaultNumberSystem, the sign of x / y is copied to both results
+        final double sign = Math.signum(dividend) * Math.signum(divisor);
+        final double absDividend = Math.abs(dividend);
+        final double absDivisor = Math.abs(divisor);
+        final double quotient = Math.floor(absDividend / absDivisor);
+        double remainder = absDividend % absDivisor;
+        if(roundRemainderTowardsZero) {
+            remainder = Math.floor(remainder);
+        }
+        return new Number[] { sign * quotient, sign * remainder };
+    }
+
+    @Override
+    public Number power(Number number, int exponent)
+    {
+        final double value = number.doubleValue();
+        if(exponent == 0 && value == 0) {
+            throw new ArithmeticException("0^0 is not defined");
+        }
+        return Math.pow(value, exponent);
+    }
+
+    @Override
+    public Number reciprocal(Number number)
+    {
+        return 1.0 / number.doubleValue();
+    }
+
+    @Override
+    public Number negate(Number number)
+    {
+        return -number.doubleValue();
+    }
+
+    @Override
+    public int signum(Number number)
+    {
+        return (int) Math.signum(number.doubleValue());
+    }
+
+    @Override
+    public Number abs(Number number)
+    {
+        return Math.abs(number.doubleValue());
+    }
+
+    @Override
+    public Number exp(Number number)
+    {
+        return Math.exp(number.doubleValue());
+    }
+
+    @Override
+    public Number log(Number number)
+    {
+        return Math.log(number.doubleValue());
+    }
+
+    @Override
+    public Number narrow(Number number)
+    {
+        return (number instanceof Double) ? number : Double.valueOf(number.doubleValue());
+    }
+
+    @Override
+    public int compare(Number x, Number y)
+    {
+        return Double.compare(x.doubleValue(), y.doubleValue());
+    }
+
+    @Override
+    public boolean isZero(Number number)
+    {
+        return number.doubleValue() == 0;
+    }
+
+    @Override
+    public boolean isOne(Number number)
+    {
+        return number.doubleValue() == 1;
+    }
+
+    @Override
+    public boolean isLessThanOne(Number number)
+    {
+        return number.doubleValue() < 1;
+    }
+
+    @Override
+    public boolean isInteger(Number number)
+    {
+        final double value = number.doubleValue();
+        return Double.isFinite(value) && value % 1 == 0;
+    }
+
+    @Override
+    public boolean equals(Number x, Number y)
+    {
+        return x == y || x.doubleValue() == y.doubleValue();
+    }
+
+}
@@ -0,0 +1,220 @@
+package org.xpertss.unit.math;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * Primitive {@code long} arithmetic used by the converters on their allocation free
+ * conversion paths.
+ * <p>
+ * Unless stated otherwise, results are rounded to the closest {@code long}, with ties
+ * rounding towards positive infinity (the same rounding as {@link Math#round(double)}).
+ * The {@code *Exact} methods don't round, they throw if the result is not an integer.
+ */
+public final class LongMath {
+
+   // this is a utility class, don't instantiate
+   private LongMath() {}
+
+   /**
+    * Returns the given {@code double} rounded to the closest {@code long}.
+    *
+    * @param value the value to round
+    * @return the rounded value
+    * @throws ArithmeticException if the value is NaN or does not fit into a {@code long}
+    */
+   public static long round(double value)
+   {
+      // 2^63 is exactly representable as double, any value below fits into a long
+      if(value != value || value >= 0x1p63 || value < -0x1p63) {
+         throw new ArithmeticException(String.format("%s does not fit into a long", value));
+      }
+      return Math.round(value);
+   }
+
+   /**
+    * Returns {@code dividend / divisor} rounded to the closest {@code long}.
+    *
+    * @param dividend the dividend
+    * @param divisor the divisor, required to be positive
+    * @return the rounded quotient
+    */
+   public static long divideAndRound(long dividend, long divisor)
+   {
+      final long quotient = Math.floorDiv(dividend, divisor);
+      final long remainder = dividend - quotient * divisor; // 0 <= remainder < divisor
+      return (remainder >= divisor - remainder) ? quotient + 1 : quotient;
+   }
+
+   /**
+    * Returns {@code value * dividend / divisor} rounded to the closest {@code long}. The
+    * intermediate product is not subject to overflow.
+    *
+    * @param value the value to scale
+    * @param dividend the dividend of the scale factor
+    * @param divisor the divisor of the scale factor, required to be positive
+    * @return the rounded result
+    * @throws ArithmeticException if the result does not fit into a {@code long}
+    */
+   public static long multiplyDivideAndRound(long value, long dividend, long divisor)
+   {
+      final long product;
+      try {
+         product = Math.multiplyExact(value, dividend);
+      } catch(ArithmeticException overflow) {
+         return multiplyDivideAndRound(value, BigInteger.valueOf(dividend), BigInteger.valueOf(divisor));
+      }
+      return (divisor == 1) ? product : divideAndRound(product, divisor);
+   }
+
+   /**
+    * Returns {@code value * dividend / divisor} rounded to the closest {@code long}.
+    *
+    * @param value the value to scale
+    * @param dividend the dividend of the scale factor
+    * @param divisor the divisor of the scale factor, required to be positive
+    * @return the rounded result
+    * @throws ArithmeticException if the result does not fit into a {@code long}
+    */
+   public static long multiplyDivideAndRound(long value, BigInteger dividend, BigInteger divisor)
+   {
+      final BigInteger[] qr = BigInteger.valueOf(value).multiply(dividend).divideAndRemainder(divisor);
+      BigInteger quotient = qr[0];
+      BigInteger remainder = qr[1];
+      if(remainder.signum() < 0) {
+         // BigInteger truncates towards zero, we want the floor
+         quotient = quotient.subtract(BigInteger.ONE);
+         remainder = remainder.add(divisor);
+      }
+      if(remainder.compareTo(divisor.subtract(remainder)) >= 0) {
+         quotient = quotient.add(BigInteger.ONE);
+      }
+      return quotient.longValueExact();
+   }
+
+   /**
+    * Returns {@code value / 2^shift} rounded to the closest {@code long}.
+    *
+    * @param value the value to scale
+    * @param shift the non-negative exponent
+    * @return the rounded result
+    */
+   public static long shiftRightAndRound(long value, int shift)
+   {
+      if(shift == 0) return value;
+      if(shift >= Long.SIZE) return 0;
+      // floor(value / 2^shift) plus the first bit shifted out, that is +1 if the
+      // remainder is at least 2^(shift-1)
+      return (value >> shift) + ((value >>> (shift - 1)) & 1L);
+   }
+
+   /**
+    * Returns {@code dividend / divisor}, provided the division has no remainder.
+    *
+    * @param dividend the dividend
+    * @param divisor the non-zero divisor
+    * @return the exact quotient
+    * @throws ArithmeticException if the quotient is not an integer or does not fit into a
+    *          {@code long}
+    */
+   public static long divideExact(long dividend, long divisor)
+   {
+      if(dividend % divisor != 0) throw inexact(dividend, divisor);
+      if(divisor == -1) return Math.negateExact(dividend);
+      return dividend / divisor;
+   }
+
+   /**
+    * Returns {@code value * dividend / divisor}, provided the result is an integer. Given
+    * dividend and divisor have no common factor, the result is an integer if and only if
+    * {@code divisor} divides {@code value}, hence the intermediate product is not subject
+    * to overflow.
+    *
+    * @param value the value to scale
+    * @param dividend the dividend of the scale factor
+    * @param divisor the divisor of the scale factor, required to be positive and to have
+    *          no common factor with the dividend
+    * @return the exact result
+    * @throws ArithmeticException if the result is not an integer or does not fit into a
+    *          {@code long}
+    */
+   public static long multiplyDivideExact(long value, long dividend, long divisor)
+   {
+      if(divisor == 1) return Math.multiplyExact(value, dividend);
+      return Math.multiplyExact(divideExact(value, divisor), dividend);
+   }
+
+   /**
+    * Returns {@code value * 2^shift}.
+    *
+    * @param value the value to scale
+    * @param shift the non-negative exponent
+    * @return the exact result
+    * @throws ArithmeticException if the result does not fit into a {@code long}
+    */
+   public static long shiftLeftExact(long value, int shift)
+   {
+      if(value == 0) return 0;
+      final long result = value << shift;
+      if(shift >= Long.SIZE - 1 || (result >> shift) != value) {
+         throw new ArithmeticException(String.format("%s * 2^%s does not fit into a long", value, shift));
+      }
+      return result;
+   }
+
+   /**
+    * Returns {@code value / 2^shift}, provided the division has no remainder.
+    *
+    * @param value the value to scale
+    * @param shift the non-negative exponent
+    * @return the exact result
+    * @throws ArithmeticException if the result is not an integer
+    */
+   public static long shiftRightExact(long value, int shift)
+   {
+      if(value == 0) return 0;
+      if(shift >= Long.SIZE || Long.numberOfTrailingZeros(value) < shift) {
+         throw new ArithmeticException(String.format("%s / 2^%s is not an integer", value, shift));
+      }
+      return value >> shift;
+   }
+
+   /**
+    * Returns the given number as {@code long}, provided it represents an integer which
+    * fits into a {@code long}.
+    *
+    * @param number the number
+    * @return the {@code long} value of the number
+    * @throws ArithmeticException if the number is not an integer or does not fit into a
+    *          {@code long}
+    */
+   public static long toLongExact(Number number)
+   {
+      if(number instanceof Long || number instanceof Integer
+            || number instanceof Short || number instanceof Byte) {
+         return number.longValue();
+      }
+      if(number instanceof BigInteger) {
+         return ((BigInteger) number).longValueExact();
+      }
+      if(number instanceof BigDecimal) {
+         return ((BigDecimal) number).longValueExact();
+      }
+      if(number instanceof RationalNumber) {
+         final RationalNumber rational = (RationalNumber) number;
+         if(!rational.isInteger()) throw new ArithmeticException(String.format("%s is not an integer", number));
+         return rational.isLong() ? rational.getLongDividend() : rational.getDividend().longValueExact();
+      }
+      final double value = number.doubleValue();
+      if(value != Math.rint(value)) throw new ArithmeticException(String.format("%s is not an integer", number));
+      return round(value);
+   }
+
+   // -- HELPER
+
+   private static ArithmeticException inexact(long dividend, long divisor)
+   {
+      return new ArithmeticException(String.format("%s / %s is not an integer", dividend, divisor));
+   }
+
+}
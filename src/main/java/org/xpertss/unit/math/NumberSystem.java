@@ -16,6 +16,10 @@ package org.xpertss.unit.math;
  * - implemented methods must support any {@link Number} arguments from <em>S</em><br>
  * - implemented methods must also have their {@link Number} results to be in <em>S</em></dd>
  * </dl>
+ * <p>
+ * Converters hold numbers created by whichever number system was current at the time,
+ * hence implementations should accept any {@link Number} argument, converting foreign
+ * number types into their own set as {@link #narrow(Number)} does.
  *  
  * @see <a href="https://en.wikipedia.org/wiki/Closure_(mathematics)">Closure (wikipedia)</a>
  */
@@ -169,6 +173,19 @@ public interface NumberSystem {
      */
     Number log(Number number);
     
+    /**
+     * Returns the natural logarithm of given logarithmic {@code base}, as used to convert
+     * logarithms and exponentials of that base. Since few distinct bases are in use,
+     * implementations are encouraged to memoize the result.
+     * 
+     * @param base
+     * @return natural logarithm of base
+     */
+    default Number logOfBase(Number base)
+    {
+        return log(base);
+    }
+    
     
     /**
      * 'Narrows' given {@code number} as a {@link Number} that best
@@ -223,9 +240,12 @@ public interface NumberSystem {
     }
 
 
+    /**
+     * Returns the number system of the current thread, see {@link NumberSystems}.
+     */
     static NumberSystem current()
     {
-        return DefaultNumberSystem.INSTANCE;
+        return NumberSystems.current();
     }
 
     
@@ -0,0 +1,170 @@
+package org.xpertss.unit.math;
+
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Selects the {@link NumberSystem} returned by {@link NumberSystem#current()}.
+ * <p>
+ * The default number system is discovered once, using {@link ServiceLoader}. If the system
+ * property {@value #NUMBER_SYSTEM_PROPERTY} is set, the provider of that class name is used,
+ * or if there is no such provider, an instance of that class created by its public no-arg
+ * constructor (e.g. {@link DoubleNumberSystem}). Otherwise the first provider found is used
+ * and, without any provider, the {@link DefaultNumberSystem}.
+ * <p>
+ * The default may be overridden for the current thread within a scope:
+ * <pre>
+ * try(NumberSystems.Scope scope = NumberSystems.use(exactNumberSystem)) {
+ *     ...
+ * }
+ * </pre>
+ * As long as no scope is open, reading the current number system is a single volatile read.
+ * <p>
+ * Converters and unit pairs are memoized for the default number system only, while a scope
+ * is open on the current thread they are composed anew.
+ */
+public final class NumberSystems {
+
+    /**
+     * The system property holding the class name of the default number system.
+     */
+    public static final String NUMBER_SYSTEM_PROPERTY = "xpertss.measure.numberSystem";
+
+    private static final NumberSystem DEFAULT = loadDefault();
+
+    private static final ThreadLocal<NumberSystem> OVERRIDE = new ThreadLocal<>();
+
+    /**
+     * Number of open scopes over all threads, no thread local lookup is needed while zero.
+     */
+    private static final AtomicInteger SCOPES = new AtomicInteger();
+
+    // this is a utility class, don't instantiate
+    private NumberSystems() {}
+
+    /**
+     * Returns the default number system, as discovered by {@link ServiceLoader}.
+     */
+    public static NumberSystem getDefault()
+    {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the number system of the innermost scope open on the current thread, or the
+     * default number system.
+     */
+    public static NumberSystem current()
+    {
+        if(SCOPES.get() == 0) {
+            return DEFAULT;
+        }
+        final NumberSystem ns = OVERRIDE.get();
+        return (ns == null) ? DEFAULT : ns;
+    }
+
+    /**
+     * Returns whether the current number system is the default number system.
+     */
+    public static boolean isDefault()
+    {
+        return current() == DEFAULT;
+    }
+
+    /**
+     * Makes the given number system the current one of this thread, until the returned
+     * scope is closed. Scopes may be nested and must be closed by the thread which opened
+     * them, in reverse order.
+     *
+     * @param ns the number system to use
+     * @return the scope to close
+     */
+    public static Scope use(NumberSystem ns)
+    {
+        if(ns == null) throw new NullPointerException("ns");
+        final Scope scope = new Scope(OVERRIDE.get());
+        OVERRIDE.set(ns);
+        SCOPES.incrementAndGet();
+        return scope;
+    }
+
+    /**
+     * An open override of the current number system, see {@link #use(NumberSystem)}.
+     */
+    public static final class Scope implements AutoCloseable {
+
+        private final NumberSystem previous;
+        private boolean closed;
+
+        private Scope(NumberSystem previous)
+        {
+            this.previous = previous;
+        }
+
+        /**
+         * Restores the number system which was current when this scope was opened.
+         */
+        @Override
+        public void close()
+        {
+            if(closed) return;
+            closed = true;
+            if(previous == null) {
+                OVERRIDE.remove();
+            } else {
+                OVERRIDE.set(previous);
+            }
+            SCOPES.decrementAndGet();
+        }
+    }
+
+    // -- HELPER
+
+    private static NumberSystem loadDefault()
+    {
+        return load(System.getProperty(NUMBER_SYSTEM_PROPERTY));
+    }
+
+    /**
+     * Returns the number system of the given class name or, if {@code null}, the first
+     * provider found or the {@link DefaultNumberSystem}. Named number systems which are
+     * not registered as a provider are instantiated by their public no-arg constructor.
+     */
+    static NumberSystem load(String name)
+    {
+        if(name != null && name.equals(DefaultNumberSystem.class.getName())) {
+            return DefaultNumberSystem.INSTANCE;
+        }
+        try {
+            for(NumberSystem ns : ServiceLoader.load(NumberSystem.class)) {
+                if(name == null || name.equals(ns.getClass().getName())) {
+                    return ns;
+                }
+            }
+        } catch(ServiceConfigurationError e) {
+            throw new IllegalStateException("Failed to load number systems", e);
+        }
+        return (name == null) ? DefaultNumberSystem.INSTANCE : instantiate(name);
+    }
+
+    private static NumberSystem instantiate(String name)
+    {
+        final ClassLoader context = Thread.currentThread().getContextClassLoader();
+        final Class<?> type;
+        try {
+            type = Class.forName(name, true, (context != null) ? context : NumberSystems.class.getClassLoader());
+        } catch(ClassNotFoundException e) {
+            throw new IllegalStateException(String.format("Number system '%s' not found", name), e);
+        }
+        if(!NumberSystem.class.isAssignableFrom(type)) {
+            throw new IllegalStateException(String.format("'%s' is not a number system", name));
+        }
+        try {
+            return (NumberSystem) type.getConstructor().newInstance();
+        } catch(ReflectiveOperationException e) {
+            throw new IllegalStateException(String.format("Number system '%s' cannot be instantiated", name), e);
+        }
+    }
+
+}
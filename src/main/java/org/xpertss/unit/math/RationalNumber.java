@@ -9,22 +9,28 @@ import java.util.Objects;
  * Represents a rational number {@code dividend/divisor} with {@code dividend} and {@code divisor}
  * being integer numbers.
  * <p>
- * @implSpec This implementation uses {@link BigInteger} to represent 'dividend' and 'divisor'.
+ * @implSpec This implementation represents 'dividend' and 'divisor' using primitive {@code long}
+ * values whenever both fit, arithmetic on such numbers is overflow checked and only promotes to
+ * {@link BigInteger} when needed. Numbers that don't fit are represented by {@link BigInteger}.
+ * Either representation is canceled down, hence any value has exactly one representation.
  */
 public final class RationalNumber extends Number {
 
 	private static final long serialVersionUID = 1L;
-	private final Object $lock1 = new Object[0]; // serializable lock for 'divisionResult'
-	private final Object $lock2 = new Object[0]; // serializable lock for 'longValue'
 
 	private final int signum;
-	private final BigInteger absDividend;
-	private final BigInteger absDivisor;
+	private final boolean isLong;
+	private final long longDividend; // absolute value, only valid if 'isLong'
+	private final long longDivisor;  // positive, only valid if 'isLong'
+	private BigInteger absDividend;  // lazily materialized if 'isLong'
+	private BigInteger absDivisor;   // lazily materialized if 'isLong'
 	private final int hashCode;
 	private final boolean isInteger;
 
-	private transient BigDecimal divisionResult;
-	private transient Long longValue;
+	// lazily computed, racy single-check: values are immutable, hence computing them
+	// more than once is harmless, the volatile write publishes them safely
+	private transient volatile BigDecimal divisionResult;
+	private transient volatile Long longValue;
 
 	/**
 	 * The default {@code DIVISION_CHARACTER} is ÷ which (on Windows) can by typed
@@ -34,8 +40,8 @@ public final class RationalNumber extends Number {
 	 */
 	public static char DIVISION_CHARACTER = '÷'; // Alt+ 246
 
-	public final static RationalNumber ZERO = ofInteger(BigInteger.ZERO);
-	public final static RationalNumber ONE = ofInteger(BigInteger.ONE);
+	public final static RationalNumber ZERO = ofInteger(0L);
+	public final static RationalNumber ONE = ofInteger(1L);
 
 	/**
 	 * Returns a {@code RationalNumber} with divisor <i>ONE</i>. In other words,
@@ -44,11 +50,13 @@ public final class RationalNumber extends Number {
 	 * 
 	 * @param number
 	 * @return number/1
-	 * @throws NullPointerException - if number is {@code null}
 	 */
 	public static RationalNumber ofInteger(long number)
 	{
-		return ofInteger(BigInteger.valueOf(number));
+		if(number == Long.MIN_VALUE) {
+			return ofInteger(BigInteger.valueOf(number));
+		}
+		return new RationalNumber(Long.signum(number), Math.abs(number), 1L);
 	}
 
 	/**
@@ -63,7 +71,7 @@ public final class RationalNumber extends Number {
 	public static RationalNumber ofInteger(BigInteger number)
 	{
 		Objects.requireNonNull(number);
-		return new RationalNumber(number.signum(), number.abs(), BigInteger.ONE);
+		return create(number.signum(), number.abs(), BigInteger.ONE);
 	}
 
 	/**
@@ -77,7 +85,17 @@ public final class RationalNumber extends Number {
 	 */
 	public static RationalNumber of(long dividend, long divisor)
 	{
-		return of(BigInteger.valueOf(dividend), BigInteger.valueOf(divisor));
+		if (divisor == 0) {
+			throw new IllegalArgumentException("cannot initalize a rational number with divisor equal to ZERO");
+		}
+		if (dividend == Long.MIN_VALUE || divisor == Long.MIN_VALUE) {
+			return of(BigInteger.valueOf(dividend), BigInteger.valueOf(divisor));
+		}
+		final int signum = Long.signum(dividend) * Long.signum(divisor);
+		if (signum == 0) {
+			return ZERO;
+		}
+		return reduce(signum, Math.abs(dividend), Math.abs(divisor));
 	}
 	
 	/**
@@ -155,14 +173,29 @@ public final class RationalNumber extends Number {
 
 		// cancel down
 		final BigInteger gcd = absDividend.gcd(absDivisor);
-		return new RationalNumber(signum, absDividend.divide(gcd), absDivisor.divide(gcd));
+		return create(signum, absDividend.divide(gcd), absDivisor.divide(gcd));
 	}
 
 	// hidden constructor, that expects non-negative dividend and positive divisor,
 	// these already canceled down
+	private RationalNumber(int signum, long absDividend, long absDivisor)
+	{
+		this.signum = signum;
+		this.isLong = true;
+		this.longDividend = absDividend;
+		this.longDivisor = absDivisor;
+		this.hashCode = Objects.hash(signum, absDividend, absDivisor);
+		this.isInteger = absDivisor == 1L;
+	}
+
+	// hidden constructor, that expects non-negative dividend and positive divisor,
+	// these already canceled down and at least one of them not fitting into a long
 	private RationalNumber(int signum, BigInteger absDividend, BigInteger absDivisor)
 	{
 		this.signum = signum;
+		this.isLong = false;
+		this.longDividend = 0L;
+		this.longDivisor = 0L;
 		this.absDividend = absDividend;
 		this.absDivisor = absDivisor;
 		this.hashCode = Objects.hash(signum, absDividend, absDivisor);
@@ -179,7 +212,7 @@ public final class RationalNumber extends Number {
 	 */
 	public BigInteger getDividend()
 	{
-		return signum < 0 ? absDividend.negate() : absDividend;
+		return signum < 0 ? absDividend().negate() : absDividend();
 	}
 
 	/**
@@ -189,7 +222,42 @@ public final class RationalNumber extends Number {
 	 */
 	public BigInteger getDivisor()
 	{
-		return absDivisor;
+		return absDivisor();
+	}
+
+	/**
+	 * @return whether both dividend and divisor of this {@code RationalNumber} fit into a
+	 *         {@code long}, see {@link #getLongDividend()} and {@link #getLongDivisor()}
+	 */
+	public boolean isLong()
+	{
+		return isLong;
+	}
+
+	/**
+	 * Same as {@link #getDividend()}, for numbers whose dividend and divisor fit into a
+	 * {@code long}.
+	 *
+	 * @return sign(a/b) * abs(a), (given rational number a/b)
+	 * @throws ArithmeticException if this number is not {@link #isLong()}
+	 */
+	public long getLongDividend()
+	{
+		if (!isLong) throw new ArithmeticException("dividend does not fit into a long");
+		return signum < 0 ? -longDividend : longDividend;
+	}
+
+	/**
+	 * Same as {@link #getDivisor()}, for numbers whose dividend and divisor fit into a
+	 * {@code long}.
+	 *
+	 * @return abs(b), (given rational number a/b)
+	 * @throws ArithmeticException if this number is not {@link #isLong()}
+	 */
+	public long getLongDivisor()
+	{
+		if (!isLong) throw new ArithmeticException("divisor does not fit into a long");
+		return longDivisor;
 	}
 
 	/**
@@ -212,22 +280,24 @@ public final class RationalNumber extends Number {
 	/**
 	 * The {@link BigDecimal} representation of this {@code RationalNumber}.
 	 * <dl>
-     * <dt><span class="strong">Implementation Note:</span></dt><dd>the conversion calculation is done lazily and thread-safe</dd>           
+     * <dt><span class="strong">Implementation Note:</span></dt><dd>the conversion calculation is done lazily and thread-safe, without locking</dd>           
      * </dl>
      * @return this {@code RationalNumber} converted to {@link BigDecimal}
 	 *         representation 
 	 */
 	public BigDecimal bigDecimalValue()
 	{
-		synchronized ($lock1) {
-			if (divisionResult == null) {
-				divisionResult = new BigDecimal(absDividend).divide(new BigDecimal(absDivisor), MathContext.DECIMAL128);
-				if (signum < 0) {
-					divisionResult = divisionResult.negate();
-				}
+		BigDecimal result = divisionResult;
+		if (result == null) {
+			result = isLong
+					? BigDecimal.valueOf(longDividend).divide(BigDecimal.valueOf(longDivisor), MathContext.DECIMAL128)
+					: new BigDecimal(absDividend).divide(new BigDecimal(absDivisor), MathContext.DECIMAL128);
+			if (signum < 0) {
+				result = result.negate();
 			}
+			divisionResult = result;
 		}
-		return divisionResult;
+		return result;
 	}
 
 	/**
@@ -239,12 +309,27 @@ public final class RationalNumber extends Number {
 	 */
 	public RationalNumber add(RationalNumber that)
 	{
+		if (this.signum == 0) return that;
+		if (that.signum == 0) return this;
 
 		// a/b + c/d = (ad + bc) / bd
-		BigInteger a = this.absDividend;
-		BigInteger b = this.absDivisor;
-		BigInteger c = that.absDividend;
-		BigInteger d = that.absDivisor;
+		if (this.isLong && that.isLong) {
+			try {
+				final long a = this.signum < 0 ? -this.longDividend : this.longDividend;
+				final long b = this.longDivisor;
+				final long c = that.signum < 0 ? -that.longDividend : that.longDividend;
+				final long d = that.longDivisor;
+				return of(Math.addExact(Math.multiplyExact(a, d), Math.multiplyExact(b, c)), // (ad + bc)
+						Math.multiplyExact(b, d)); // bd
+			} catch (ArithmeticException overflow) {
+				// fall through to BigInteger arithmetic
+			}
+		}
+
+		BigInteger a = this.absDividend();
+		BigInteger b = this.absDivisor();
+		BigInteger c = that.absDividend();
+		BigInteger d = that.absDivisor();
 
 		if (this.signum < 0) {
 			a = a.negate();
@@ -286,10 +371,28 @@ public final class RationalNumber extends Number {
 		}
 
 		// a/b * c/d = ac / bd
-		final BigInteger a = this.absDividend;
-		final BigInteger b = this.absDivisor;
-		final BigInteger c = that.absDividend;
-		final BigInteger d = that.absDivisor;
+		if (this.isLong && that.isLong) {
+			// cancel down crosswise first, both operands are already canceled down, so is the result
+			final long gcdAD = gcd(this.longDividend, that.longDivisor);
+			final long gcdCB = gcd(that.longDividend, this.longDivisor);
+			final long a = this.longDividend / gcdAD;
+			final long b = this.longDivisor / gcdCB;
+			final long c = that.longDividend / gcdCB;
+			final long d = that.longDivisor / gcdAD;
+			final long ac = a * c;
+			final long bd = b * d;
+			if (fitsLong(a, c, ac) && fitsLong(b, d, bd)) {
+				return new RationalNumber(productSignum, ac, bd);
+			}
+			return create(productSignum,
+					BigInteger.valueOf(a).multiply(BigInteger.valueOf(c)),
+					BigInteger.valueOf(b).multiply(BigInteger.valueOf(d)));
+		}
+
+		final BigInteger a = this.absDividend();
+		final BigInteger b = this.absDivisor();
+		final BigInteger c = that.absDividend();
+		final BigInteger d = that.absDivisor();
 
 		final BigInteger ac = a.multiply(c);
 		final BigInteger bd = b.multiply(d);
@@ -297,7 +400,7 @@ public final class RationalNumber extends Number {
 		// cancel down
 		final BigInteger gcd = ac.gcd(bd);
 
-		return new RationalNumber(productSignum, ac.divide(gcd), bd.divide(gcd));
+		return create(productSignum, ac.divide(gcd), bd.divide(gcd));
 	}
 
 	/**
@@ -320,7 +423,9 @@ public final class RationalNumber extends Number {
 	 */
 	public RationalNumber negate()
 	{
-		return new RationalNumber(-signum, absDividend, absDivisor);
+		return isLong
+				? new RationalNumber(-signum, longDividend, longDivisor)
+				: new RationalNumber(-signum, absDividend, absDivisor);
 	}
 
 	/**
@@ -331,7 +436,12 @@ public final class RationalNumber extends Number {
 	 */
 	public RationalNumber reciprocal()
 	{
-		return new RationalNumber(signum, absDivisor, absDividend);
+		if (signum == 0) {
+			throw new ArithmeticException("division by zero");
+		}
+		return isLong
+				? new RationalNumber(signum, longDivisor, longDividend)
+				: new RationalNumber(signum, absDivisor, absDividend);
 	}
 
 	/**
@@ -361,10 +471,13 @@ public final class RationalNumber extends Number {
 			newSignum = 1;
 		}
 
+		final int absExponent = Math.abs(exponent);
+		final BigInteger dividendPower = absDividend().pow(absExponent);
+		final BigInteger divisorPower = absDivisor().pow(absExponent);
 		if (exponent > 0) {
-			return new RationalNumber(newSignum, absDividend.pow(exponent), absDivisor.pow(exponent));
+			return create(newSignum, dividendPower, divisorPower);
 		} else {
-			return new RationalNumber(newSignum, absDivisor.pow(exponent), absDividend.pow(exponent));
+			return create(newSignum, divisorPower, dividendPower);
 		}
 
 	}
@@ -377,7 +490,7 @@ public final class RationalNumber extends Number {
 	 */
 	public RationalNumber abs()
 	{
-		return signum < 0 ? new RationalNumber(1, absDividend, absDivisor) : this;
+		return signum < 0 ? negate() : this;
 	}
 
 	/**
@@ -403,15 +516,25 @@ public final class RationalNumber extends Number {
 
 		// a/b > c/d <=> ad > bc
 
-		final BigInteger a = this.absDividend;
-		final BigInteger b = this.absDivisor;
-		final BigInteger c = that.absDividend;
-		final BigInteger d = that.absDivisor;
+		int absCompare;
+		if (this.isLong && that.isLong) {
+			final long ad = this.longDividend * that.longDivisor;
+			final long bc = this.longDivisor * that.longDividend;
+			if (fitsLong(this.longDividend, that.longDivisor, ad) && fitsLong(this.longDivisor, that.longDividend, bc)) {
+				absCompare = Long.compare(ad, bc);
+				return this.signum > 0 ? absCompare : -absCompare;
+			}
+		}
+
+		final BigInteger a = this.absDividend();
+		final BigInteger b = this.absDivisor();
+		final BigInteger c = that.absDividend();
+		final BigInteger d = that.absDivisor();
 
 		final BigInteger ad = a.multiply(d);
 		final BigInteger bc = b.multiply(c);
 
-		final int absCompare = ad.compareTo(bc);
+		absCompare = ad.compareTo(bc);
 
 		return this.signum > 0 ? absCompare : -absCompare;
 	}
@@ -427,15 +550,18 @@ public final class RationalNumber extends Number {
 	@Override
 	public long longValue()
 	{
+		if (isLong) {
+			final long quotient = longDividend / longDivisor;
+			return signum < 0 ? -quotient : quotient;
+		}
 		// performance optimized version, rounding mode is FLOOR
 		// equivalent to 'bigDecimalValue().longValue()';
-		synchronized ($lock2) {
-			if (longValue == null) {
-				longValue = signum() < 0 ? absDividend.negate().divide(absDivisor).longValue()
-						: absDividend.divide(absDivisor).longValue();
-			}
+		Long result = longValue;
+		if (result == null) {
+			longValue = result = signum() < 0 ? absDividend.negate().divide(absDivisor).longValue()
+					: absDividend.divide(absDivisor).longValue();
 		}
-		return longValue;
+		return result;
 	}
 
 	@Override
@@ -447,6 +573,11 @@ public final class RationalNumber extends Number {
 	@Override
 	public double doubleValue()
 	{
+		if (isLong && longDividend <= MAX_EXACT_DOUBLE && longDivisor <= MAX_EXACT_DOUBLE) {
+			// both operands are exact, so is the (correctly rounded) quotient
+			final double quotient = (double) longDividend / (double) longDivisor;
+			return signum < 0 ? -quotient : quotient;
+		}
 		return bigDecimalValue().doubleValue();
 	}
 
@@ -468,7 +599,7 @@ public final class RationalNumber extends Number {
 			return getDividend().toString(); // already includes the sign
 		}
 		if (useFractionalRepresentation) {
-			return getDividend().toString() + divisionCharacter + absDivisor;
+			return getDividend().toString() + divisionCharacter + getDivisor();
 		} else {
 			return String.valueOf(bigDecimalValue());
 		}
@@ -534,16 +665,82 @@ public final class RationalNumber extends Number {
         }
 
         final RationalNumber other = (RationalNumber) x;
-        
-//        // null checks not needed, since the constructor guards against dividend or divisor being null
-//        boolean result = (
-//                this.signum == other.signum &&
-//                Objects.equals(this.absDividend, other.absDividend) && 
-//                Objects.equals(this.absDivisor, other.absDivisor));
-//        return result; This is still broken
-        
-        return Objects.equals(this.bigDecimalValue(), other.bigDecimalValue());
+
+        // both dividend and divisor are canceled down, and any number fitting into a long
+        // is represented by longs, hence the representation of a number is unique
+        if (this.signum != other.signum || this.isLong != other.isLong) {
+            return false;
+        }
+        if (isLong) {
+            return this.longDividend == other.longDividend && this.longDivisor == other.longDivisor;
+        }
+        return this.absDividend.equals(other.absDividend) && this.absDivisor.equals(other.absDivisor);
     }
-	
+
+	// -- HELPER
+
+	private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+	/**
+	 * Creates a number from non-negative dividend and positive divisor, these already
+	 * canceled down, choosing the long representation whenever possible.
+	 */
+	private static RationalNumber create(int signum, BigInteger absDividend, BigInteger absDivisor)
+	{
+		if (absDividend.bitLength() < Long.SIZE && absDivisor.bitLength() < Long.SIZE) {
+			return new RationalNumber(signum, absDividend.longValue(), absDivisor.longValue());
+		}
+		return new RationalNumber(signum, absDividend, absDivisor);
+	}
+
+	/**
+	 * Creates a number from positive dividend and divisor, canceling these down.
+	 */
+	private static RationalNumber reduce(int signum, long absDividend, long absDivisor)
+	{
+		final long gcd = gcd(absDividend, absDivisor);
+		return new RationalNumber(signum, absDividend / gcd, absDivisor / gcd);
+	}
+
+	/**
+	 * Greatest common divisor of two non-negative longs, not both zero.
+	 */
+	private static long gcd(long a, long b)
+	{
+		while (b != 0) {
+			final long t = a % b;
+			a = b;
+			b = t;
+		}
+		return a;
+	}
+
+	/**
+	 * Whether {@code product == x * y} did not overflow, given non-negative x and y.
+	 */
+	private static boolean fitsLong(long x, long y, long product)
+	{
+		if ((x | y) >>> 31 == 0) return true; // both fit into 31 bits
+		return product >= 0 && (x == 0 || product / x == y);
+	}
+
+	// BigInteger is immutable (final fields), so the racy lazy materialization below is safe
+	private BigInteger absDividend()
+	{
+		BigInteger result = absDividend;
+		if (result == null) {
+			absDividend = result = BigInteger.valueOf(longDividend);
+		}
+		return result;
+	}
+
+	private BigInteger absDivisor()
+	{
+		BigInteger result = absDivisor;
+		if (result == null) {
+			absDivisor = result = BigInteger.valueOf(longDivisor);
+		}
+		return result;
+	}
 
 }
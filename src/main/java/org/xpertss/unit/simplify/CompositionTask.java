@@ -2,7 +2,7 @@ package org.xpertss.unit.simplify;
 
 import org.xpertss.unit.converters.AbstractConverter;
 
-import org.xpertss.unit.converters.ConverterPair;
+import org.xpertss.unit.converters.CompositeConverter;
 import xpertss.measure.UnitConverter;
 
 import java.util.Arrays;
@@ -11,17 +11,21 @@ import java.util.function.BiPredicate;
 import java.util.function.BinaryOperator;
 
 /**
- * Package private normal-form yielding worker task.
+ * Normal-form yielding worker task.
+ * <p/>
+ * Instances are stateless and thread safe, they may be reused for any number of
+ * compositions. The steps are reduced within a per thread scratch buffer, the only
+ * allocation is the resulting converter.
  */
 public final class CompositionTask {
 
+   private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
    private final BiPredicate<AbstractConverter, AbstractConverter> isNormalFormOrderWhenIdentity;
    private final BiPredicate<AbstractConverter, AbstractConverter> isNormalFormOrderWhenCommutative;
    private final BiPredicate<AbstractConverter, AbstractConverter> canReduce;
    private final BinaryOperator<AbstractConverter> doReduce;
 
-   private AbstractConverter[] arrayOfConverters;
-
    public CompositionTask(BiPredicate<AbstractConverter, AbstractConverter> isNormalFormOrderWhenIdentity,
                           BiPredicate<AbstractConverter, AbstractConverter> isNormalFormOrderWhenCommutative,
                           BiPredicate<AbstractConverter, AbstractConverter> canReduce,
@@ -34,95 +38,169 @@ public final class CompositionTask {
    }
 
    /**
-    * Description of a brute-force approach:
+    * Given 'conversionSteps' a list of converters, where order matters, yields the
+    * normal-form of their composition in a single pass:
     * <p>
-    * Given 'conversionSteps' a list of converters, where order matters,
-    * we form a permutation group of all allowed permutations
-    * 'reachable' through 'allowed' swapping.
-    * Swapping is allowed for 2 consecutive converters that are both
-    * multiply transformations (x.isLinear()==true).
-    * We search this permutation group for any sequence of converters, that allows simplification:
-    * <br><br>
-    * For every pair of consecutive converters within a sequence,
-    * check whether a simplification is possible (a.isSimpleCompositionWith(b)),
-    * then apply simplification and start over.
-    * <br><br>
-    * Finally sort according to normal-form order.
+    * Steps are appended one after the other to a sequence which is kept in normal-form.
+    * Identities are dropped. Two consecutive converters that are both multiply
+    * transformations (x.isLinear()==true) commute, hence a linear step is merged into
+    * the trailing run of linear converters: if it can be simplified with any of them
+    * (a.canReduceWith(b)) both are replaced by their simplification, which is then
+    * appended in turn, otherwise it is inserted according to normal-form order. A
+    * non-linear step can only be simplified with its left neighbour.
     * </p>
     *
     * @param conversionSteps
-    * @return
+    * @return the normal-form
     */
    public AbstractConverter reduceToNormalForm(List<? extends UnitConverter> conversionSteps)
    {
-      arrayOfConverters = conversionSteps.toArray(new AbstractConverter[] {});
-      sortToNormalFormOrder(arrayOfConverters);
-      while(trySimplify() > 0) {
-         sortToNormalFormOrder(arrayOfConverters);
+      return reduceToNormalForm(conversionSteps, null);
+   }
+
+   /**
+    * Same as {@link #reduceToNormalForm(List)} for the concatenation of two lists of steps,
+    * without concatenating them first.
+    *
+    * @param leftSteps
+    * @param rightSteps
+    * @return the normal-form
+    */
+   public AbstractConverter reduceToNormalForm(List<? extends UnitConverter> leftSteps,
+                                               List<? extends UnitConverter> rightSteps)
+   {
+      final Scratch scratch = Scratch.acquire();
+      try {
+         append(scratch, leftSteps);
+         if(rightSteps != null) append(scratch, rightSteps);
+         if(scratch.size == 0) return AbstractConverter.IDENTITY;
+         return CompositeConverter.of(scratch.buffer, scratch.size);
+      } finally {
+         scratch.release();
       }
-      return sequenceToConverter(arrayOfConverters);
    }
 
    // -- HELPER
 
-   /**
-    * @returns the number of simplifications that could be found and were applied
-    */
-   private int trySimplify()
+   private void append(Scratch scratch, List<? extends UnitConverter> steps)
    {
-      final CompositionTaskArrayAdapter<AbstractConverter> adapter = CompositionTaskArrayAdapter.of(arrayOfConverters);
-      int simplificationCount = adapter.visitSequentialPairsAndSimplify((a, b) -> {
-         if(a.isIdentity()) return b;
-         if(b.isIdentity()) return a;
-         return canReduce.test(a, b) ? doReduce.apply(a, b) : null;
-      });
-      if(simplificationCount > 0) {
-         arrayOfConverters = adapter.removeNulls(simplificationCount);
+      for(int i = 0, n = steps.size(); i < n; i++) {
+         append(scratch, (AbstractConverter) steps.get(i));
       }
-      return simplificationCount;
    }
 
    /**
-    * sorts an array of converters to normal-form order
+    * appends a step to the sequence held by scratch, keeping the sequence in normal-form
     */
-   private void sortToNormalFormOrder(AbstractConverter[] arrayOfConverters)
+   private void append(Scratch scratch, AbstractConverter step)
    {
-      final CompositionTaskBitScanner bitScanner = CompositionTaskBitScanner.of(arrayOfConverters, UnitConverter::isLinear);
-      // a bit-set 0-0-1-1-1-0 would indicate 3rd to 5th position are allowed to be put in arbitrary order
-      // we sort this sub-sequences of '1's according to normal-form-order
-      bitScanner.visitBitSequences((fromIndex, toIndex) -> {
-         Arrays.sort(arrayOfConverters, fromIndex, toIndex, (a, b) -> {
-
-            if(a.isIdentity()) {
-               if(b.isIdentity()) {
-                  return isNormalFormOrderWhenIdentity.test(a, b) ? -1 : 1;
-               }
-               return -1;
+      while(step != null) {
+         if(step.isIdentity()) return;
+         final AbstractConverter[] seq = scratch.buffer;
+         final int size = scratch.size;
+
+         if(!step.isLinear()) {
+            if(size > 0 && canReduce.test(seq[size - 1], step)) {
+               step = doReduce.apply(seq[size - 1], step);
+               scratch.remove(size - 1);
+               continue;
             }
-            if(b.isIdentity()) {
-               return 1;
+            scratch.push(step);
+            return;
+         }
+
+         // merge into the trailing run of linear converters, the last element first
+         int runStart = size;
+         AbstractConverter reduced = null;
+         while(runStart > 0 && seq[runStart - 1].isLinear()) {
+            final AbstractConverter other = seq[--runStart];
+            if(isNormalFormOrder(other, step)) {
+               if(canReduce.test(other, step)) reduced = doReduce.apply(other, step);
+            } else if(canReduce.test(step, other)) {
+               reduced = doReduce.apply(step, other);
             }
+            if(reduced != null) {
+               scratch.remove(runStart);
+               break;
+            }
+         }
+         if(reduced != null) {
+            step = reduced;
+            continue;
+         }
+
+         // insertion into the (sorted) run
+         int index = size;
+         while(index > runStart && !isNormalFormOrder(seq[index - 1], step)) {
+            index--;
+         }
+         if(index > 0 && index == runStart && canReduce.test(seq[index - 1], step)) {
+            // adjacent to the non-linear converter preceding the run
+            step = doReduce.apply(seq[index - 1], step);
+            scratch.remove(index - 1);
+            continue;
+         }
+         scratch.insert(index, step);
+         return;
+      }
+   }
 
-            return isNormalFormOrderWhenCommutative.test(a, b) ? -1 : 1;
-
-         });
-      });
+   private boolean isNormalFormOrder(AbstractConverter a, AbstractConverter b)
+   {
+      if(a.isIdentity() || b.isIdentity()) return isNormalFormOrderWhenIdentity.test(a, b);
+      return isNormalFormOrderWhenCommutative.test(a, b);
    }
 
    /**
-    * converts an array of converters to a single converter object
+    * Reusable, growable buffer holding the sequence under construction. A composition may
+    * trigger nested compositions (by reducing converters), those use a buffer of their own.
+    * Slots past {@code size} are always {@code null}, so that a buffer kept by a thread does
+    * not hold on to converters of past compositions.
     */
-   private static AbstractConverter sequenceToConverter(AbstractConverter[] sequence)
-   {
-      if(sequence == null || sequence.length == 0) return AbstractConverter.IDENTITY;
-      if(sequence.length == 1) {
-         final AbstractConverter singleton = sequence[0];
-         return singleton;
+   private static final class Scratch {
+
+      private AbstractConverter[] buffer = new AbstractConverter[16];
+      private int size;
+      private boolean inUse;
+
+      static Scratch acquire()
+      {
+         final Scratch scratch = SCRATCH.get();
+         if(scratch.inUse) return new Scratch().use(); // nested composition
+         return scratch.use();
+      }
+
+      private Scratch use()
+      {
+         inUse = true;
+         return this;
+      }
+
+      void release()
+      {
+         Arrays.fill(buffer, 0, size, null);
+         size = 0;
+         inUse = false;
+      }
+
+      void push(AbstractConverter step)
+      {
+         insert(size, step);
       }
-      // fold the sequence into a binary tree
-      final AbstractConverter start = new ConverterPair(sequence[0], sequence[1]);
-      return Arrays.stream(sequence).skip(2).reduce(start, (tree, next) -> new ConverterPair(tree, next));
-   }
 
+      void insert(int index, AbstractConverter step)
+      {
+         if(size == buffer.length) buffer = Arrays.copyOf(buffer, size * 2);
+         System.arraycopy(buffer, index, buffer, index + 1, size - index);
+         buffer[index] = step;
+         size++;
+      }
+
+      void remove(int index)
+      {
+         System.arraycopy(buffer, index + 1, buffer, index, size - index - 1);
+         buffer[--size] = null;
+      }
+   }
 
-}
\ No newline at end of file
+}
@@ -1,15 +1,16 @@
 package org.xpertss.unit.types;
 
 import org.xpertss.unit.converters.AbstractConverter;
+import org.xpertss.unit.math.NumberSystems;
+import org.xpertss.unit.utils.WeakInterner;
 import xpertss.measure.Dimension;
 import xpertss.measure.Quantity;
 import xpertss.measure.Unit;
 import xpertss.measure.UnitConverter;
-import java.io.Serializable;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Objects;
 
 /**
  * This class represents units formed by the product of rational powers of existing physical units.
@@ -17,6 +18,11 @@ import java.util.Objects;
  * This class maintains the canonical form of this product (simplest form after factorization). For
  * example:
  * <code>METRE.pow(2).divide(METRE)</code> returns <code>METRE</code>.
+ * <p/>
+ * Product units created by unit algebra are interned, hence repeating the same algebra returns
+ * the same instance: <code>METRE.divide(SECOND) == METRE.divide(SECOND)</code>. Elements are
+ * listed in the order they were multiplied in, so products which only differ by that order are
+ * equal but distinct instances: <code>SECOND.multiply(METRE)</code> lists the second first.
  *
  * @param <Q>  The type of the quantity measured by this unit.
  */
@@ -24,13 +30,29 @@ public final class ProductUnit<Q extends Quantity<Q>> extends Unit<Q> {
 
 
     /**
-     * Holds the units composing this product unit.
-     * 
+     * Holds the units composing this product unit and their exponents.
+     *
      * <dl>
-     * <dt><span class="strong">Implementation Note:</span></dt><dd>considered immutable after constructor was called</dd>           
-     * </dl> 
+     * <dt><span class="strong">Implementation Note:</span></dt><dd>considered immutable after constructor was called</dd>
+     * </dl>
+     */
+    private final ExponentVector vector;
+
+    /**
+     * The canonical instances of the product units created by unit algebra.
+     */
+    private static final WeakInterner<ProductUnit<?>> INTERNER =
+            new WeakInterner<>((a, b) -> a.vector.displayEquals(b.vector));
+
+    /**
+     * Derived values, computed on first use. Product units are immutable, hence racing
+     * threads compute equal values and either may win.
      */
-    private final Element[] elements;
+    private int hashCode;
+    private volatile Unit<Q> systemUnit;
+    private volatile UnitConverter toSystemUnit;
+    private volatile Dimension dimension;
+    private volatile Map<Unit<?>, Integer> baseUnits;
 
     /**
      * DefaultQuantityFactory constructor (used solely to create <code>ONE</code> instance).
@@ -38,7 +60,7 @@ public final class ProductUnit<Q extends Quantity<Q>> extends Unit<Q> {
     public ProductUnit()
     {
         super("");
-        elements = new Element[0];
+        vector = ExponentVector.EMPTY;
     }
 
     /**
@@ -52,19 +74,19 @@ public final class ProductUnit<Q extends Quantity<Q>> extends Unit<Q> {
     public ProductUnit(Unit<?> productUnit)
     {
         super(productUnit.getSymbol());
-        this.elements = ((ProductUnit<?>) productUnit).elements;
+        this.vector = ((ProductUnit<?>) productUnit).vector;
     }
 
     /**
      * Product unit constructor.
      *
-     * @param elements
-     *            the product elements.
+     * @param vector
+     *            the product units and exponents.
      */
-    private ProductUnit(Element[] elements)
+    private ProductUnit(ExponentVector vector)
     {
         super(null);
-        this.elements = elements;
+        this.vector = vector;
     }
 
     /**
@@ -78,19 +100,7 @@ public final class ProductUnit<Q extends Quantity<Q>> extends Unit<Q> {
      */
     public static Unit<?> ofProduct(Unit<?> left, Unit<?> right)
     {
-        Element[] leftElems;
-        if (left instanceof ProductUnit<?>) {
-            leftElems = ((ProductUnit<?>) left).elements;
-        } else {
-            leftElems = new Element[] { new Element(left, 1, 1) };
-        }
-        Element[] rightElems;
-        if (right instanceof ProductUnit<?>) {
-            rightElems = ((ProductUnit<?>) right).elements;
-        } else {
-            rightElems = new Element[] { new Element(right, 1, 1) };
-        }
-        return getInstance(leftElems, rightElems);
+        return getInstance(ExponentVector.of(left).multiply(ExponentVector.of(right), 1));
     }
 
     /**
@@ -104,21 +114,7 @@ public final class ProductUnit<Q extends Quantity<Q>> extends Unit<Q> {
      */
     public static Unit<?> ofQuotient(Unit<?> left, Unit<?> right)
     {
-        Element[] leftElems;
-        if (left instanceof ProductUnit<?>)
-            leftElems = ((ProductUnit<?>) left).elements;
-        else
-            leftElems = new Element[] { new Element(left, 1, 1) };
-        Element[] rightElems;
-        if (right instanceof ProductUnit<?>) {
-            Element[] elems = ((ProductUnit<?>) right).elements;
-            rightElems = new Element[elems.length];
-            for (int i = 0; i < elems.length; i++) {
-                rightElems[i] = new Element(elems[i].unit, -elems[i].pow, elems[i].root);
-            }
-        } else
-            rightElems = new Element[] { new Element(right, -1, 1) };
-        return getInstance(leftElems, rightElems);
+        return getInstance(ExponentVector.of(left).multiply(ExponentVector.of(right), -1));
     }
 
     /**
@@ -134,17 +130,8 @@ public final class ProductUnit<Q extends Quantity<Q>> extends Unit<Q> {
      */
     public static Unit<?> ofRoot(Unit<?> unit, int n)
     {
-        Element[] unitElems;
-        if (unit instanceof ProductUnit<?>) {
-            Element[] elems = ((ProductUnit<?>) unit).elements;
-            unitElems = new Element[elems.length];
-            for (int i = 0; i < elems.length; i++) {
-                int gcd = gcd(Math.abs(elems[i].pow), elems[i].root * n);
-                unitElems[i] = new Element(elems[i].unit, elems[i].pow / gcd, elems[i].root * n / gcd);
-            }
-        } else
-            unitElems = new Element[] { new Element(unit, 1, n) };
-        return getInstance(unitElems, new Element[0]);
+        if (n == 0) throw new ArithmeticException("Root's order of zero");
+        return getInstance(ExponentVector.of(unit).scale(n < 0 ? -1 : 1, Math.abs(n)));
     }
 
     /**
@@ -158,17 +145,7 @@ public final class ProductUnit<Q extends Quantity<Q>> extends Unit<Q> {
      */
     public static Unit<?> ofPow(Unit<?> unit, int n)
     {
-        Element[] unitElems;
-        if (unit instanceof ProductUnit<?>) {
-            Element[] elems = ((ProductUnit<?>) unit).elements;
-            unitElems = new Element[elems.length];
-            for (int i = 0; i < elems.length; i++) {
-                int gcd = gcd(Math.abs(elems[i].pow * n), elems[i].root);
-                unitElems[i] = new Element(elems[i].unit, elems[i].pow * n / gcd, elems[i].root / gcd);
-            }
-        } else
-            unitElems = new Element[] { new Element(unit, n, 1) };
-        return getInstance(unitElems, new Element[0]);
+        return getInstance(ExponentVector.of(unit).scale(n, 1));
     }
 
     @Override
@@ -184,7 +161,7 @@ public final class ProductUnit<Q extends Quantity<Q>> extends Unit<Q> {
      */
     public int getUnitCount()
     {
-        return elements.length;
+        return vector.units.length;
     }
 
     /**
@@ -198,7 +175,7 @@ public final class ProductUnit<Q extends Quantity<Q>> extends Unit<Q> {
      */
     public Unit<?> getUnit(int index)
     {
-        return elements[index].getUnit();
+        return vector.units[vector.order[index]];
     }
 
     /**
@@ -212,7 +189,7 @@ public final class ProductUnit<Q extends Quantity<Q>> extends Unit<Q> {
      */
     public int getUnitPow(int index)
     {
-        return elements[index].getPow();
+        return vector.pows[vector.order[index]];
     }
 
     /**
@@ -226,7 +203,7 @@ public final class ProductUnit<Q extends Quantity<Q>> extends Unit<Q> {
      */
     public int getUnitRoot(int index)
     {
-        return elements[index].getRoot();
+        return vector.roots[vector.order[index]];
     }
 
 
@@ -238,50 +215,70 @@ public final class ProductUnit<Q extends Quantity<Q>> extends Unit<Q> {
     {
         if (this == obj) return true;
         if (obj instanceof ProductUnit<?>) {
-            final ProductUnit<?> other = ((ProductUnit<?>) obj); 
-            return ElementUtil.arrayEqualsArbitraryOrder(this.elements, other.elements);
+            final ProductUnit<?> other = ((ProductUnit<?>) obj);
+            return this.hashCode() == other.hashCode() && this.vector.equals(other.vector);
         }
         return false;
     }
 
-    // thread safe cache for the expensive hashCode calculation
-    /*
-    private transient Lazy<Integer> hashCode = new Lazy<>(this::calculateHashCode); 
-    private int calculateHashCode() {
-        return Objects.hash((Object[]) ElementUtil.copyAndSort(elements));
-    }
-    */
-
     @Override
     public int hashCode()
     {
-        return Objects.hash((Object[]) ElementUtil.copyAndSort(elements));
+        // racy single-check, as String does
+        int h = hashCode;
+        if (h == 0) {
+            hashCode = h = vector.hashCode();
+        }
+        return h;
     }
 
-    @SuppressWarnings("unchecked")
     @Override
     public Unit<Q> getSystemUnit()
+    {
+        Unit<Q> result = systemUnit;
+        if (result == null) {
+            systemUnit = result = calculateSystemUnit();
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Unit<Q> calculateSystemUnit()
     {
         Unit<?> systemUnit = Unit.ONE;
-        for (Element element : elements) {
-            Unit<?> unit = element.unit.getSystemUnit();
-            unit = unit.pow(element.pow);
-            unit = unit.root(element.root);
+        for (int i = 0; i < vector.units.length; i++) {
+            Unit<?> unit = vector.units[i].getSystemUnit();
+            unit = unit.pow(vector.pows[i]);
+            unit = unit.root(vector.roots[i]);
             systemUnit = systemUnit.multiply(unit);
         }
         return (Unit<Q>) systemUnit;
     }
 
     public UnitConverter toSystemUnit()
+    {
+        UnitConverter result = toSystemUnit;
+        if (result == null) {
+            result = calculateToSystemUnit();
+            // converters composed under another number system are not shared
+            if (NumberSystems.isDefault()) {
+                toSystemUnit = result;
+            }
+        }
+        return result;
+    }
+
+    private UnitConverter calculateToSystemUnit()
     {
         UnitConverter converter = AbstractConverter.IDENTITY;
-        for (Element e : elements) {
-            UnitConverter cvtr = e.unit.toSystemUnit();
+        for (int i = 0; i < vector.units.length; i++) {
+            final Unit<?> unit = vector.units[i];
+            UnitConverter cvtr = unit.toSystemUnit();
             if (!(cvtr.isLinear()))
-                throw new UnsupportedOperationException(e.unit + " is non-linear, cannot convert");
-            if (e.root != 1)
-                throw new UnsupportedOperationException(e.unit + " holds a base unit with fractional exponent");
-            int pow = e.pow;
+                throw new UnsupportedOperationException(unit + " is non-linear, cannot convert");
+            if (vector.roots[i] != 1)
+                throw new UnsupportedOperationException(unit + " holds a base unit with fractional exponent");
+            int pow = vector.pows[i];
             if (pow < 0) { // Negative power.
                 pow = -pow;
                 cvtr = cvtr.inverse();
@@ -294,11 +291,21 @@ public final class ProductUnit<Q extends Quantity<Q>> extends Unit<Q> {
     }
 
     @Override
-    public Dimension getDimension() {
+    public Dimension getDimension()
+    {
+        Dimension result = dimension;
+        if (result == null) {
+            dimension = result = calculateDimension();
+        }
+        return result;
+    }
+
+    private Dimension calculateDimension()
+    {
         Dimension dimension = Dimension.NONE;
         for (int i = 0; i < this.getUnitCount(); i++) {
             Unit<?> unit = this.getUnit(i);
-            if (this.elements != null && unit.getDimension() != null) {
+            if (unit.getDimension() != null) {
                 Dimension d = unit.getDimension().pow(this.getUnitPow(i)).root(this.getUnitRoot(i));
                 dimension = dimension.multiply(d);
             }
@@ -311,76 +318,37 @@ public final class ProductUnit<Q extends Quantity<Q>> extends Unit<Q> {
     @Override
     public Map<Unit<?>, Integer> getBaseUnits()
     {
-        final Map<Unit<?>, Integer> units = new LinkedHashMap<>();
-        for (int i = 0; i < getUnitCount(); i++) {
-            units.put(getUnit(i), getUnitPow(i));
+        Map<Unit<?>, Integer> result = baseUnits;
+        if (result == null) {
+            final Map<Unit<?>, Integer> units = new LinkedHashMap<>();
+            for (int i = 0; i < getUnitCount(); i++) {
+                units.put(getUnit(i), getUnitPow(i));
+            }
+            baseUnits = result = Collections.unmodifiableMap(units);
         }
-        return units;
+        return result;
     }
 
 
 
 
     /**
-     * Returns the unit defined from the product of the specified elements.
+     * Returns the unit defined by the specified units and exponents, that is {@code ONE},
+     * a single unit or the canonical product unit.
      *
-     * @param leftElems
-     *            left multiplicand elements.
-     * @param rightElems
-     *            right multiplicand elements.
+     * @param vector
+     *            the units and exponents.
      * @return the corresponding unit.
      */
-    @SuppressWarnings("rawtypes")
-    private static Unit<?> getInstance(Element[] leftElems, Element[] rightElems) {
-
-        // Merges left elements with right elements.
-        Element[] result = new Element[leftElems.length + rightElems.length];
-        int resultIndex = 0;
-        for (Element leftElem : leftElems) {
-            Unit<?> unit = leftElem.unit;
-            int p1 = leftElem.pow;
-            int r1 = leftElem.root;
-            int p2 = 0;
-            int r2 = 1;
-            for (Element rightElem : rightElems) {
-                if (unit.equals(rightElem.unit)) {
-                    p2 = rightElem.pow;
-                    r2 = rightElem.root;
-                    break; // No duplicate.
-                }
-            }
-            int pow = p1 * r2 + p2 * r1;
-            int root = r1 * r2;
-            if (pow != 0) {
-                int gcd = gcd(Math.abs(pow), root);
-                result[resultIndex++] = new Element(unit, pow / gcd, root / gcd);
-            }
-        }
-
-        // Appends remaining right elements not merged.
-        for (Element rightElem : rightElems) {
-            Unit<?> unit = rightElem.unit;
-            boolean hasBeenMerged = false;
-            for (Element leftElem : leftElems) {
-                if (unit.equals(leftElem.unit)) {
-                    hasBeenMerged = true;
-                    break;
-                }
-            }
-            if (!hasBeenMerged)
-                result[resultIndex++] = rightElem;
-        }
-
-        // Returns or creates instance.
-        if (resultIndex == 0)
+    private static Unit<?> getInstance(ExponentVector vector)
+    {
+        final int size = vector.units.length;
+        if (size == 0)
             return Unit.ONE;
-        else if (resultIndex == 1 && result[0].pow == result[0].root)
-            return result[0].unit;
-        else {
-            Element[] elems = new Element[resultIndex];
-            System.arraycopy(result, 0, elems, 0, resultIndex);
-            return new ProductUnit(elems);
-        }
+        else if (size == 1 && vector.pows[0] == vector.roots[0])
+            return vector.units[0];
+        else
+            return INTERNER.intern(new ProductUnit<>(vector));
     }
 
     /**
@@ -393,152 +361,234 @@ public final class ProductUnit<Q extends Quantity<Q>> extends Unit<Q> {
      * @return the greatest common divisor.
      */
     private static int gcd(int m, int n) {
-        return n == 0 ? m : gcd(n, m % n);
+        while (n != 0) {
+            final int r = m % n;
+            m = n;
+            n = r;
+        }
+        return m;
     }
 
     /**
-     * Inner product element represents a rational power of a single unit.
+     * The units of a product and their rational exponents {@code pows[i] / roots[i]}, held by
+     * parallel arrays. Exponents are in lowest terms, powers are never zero and roots always
+     * greater than zero.
+     * <p/>
+     * Units are sorted by hash code, which is kept in {@code keys}, so that products are
+     * computed by a linear merge. Units having equal hash codes (if any) keep their order.
+     * That order is arbitrary, {@code order} holds the indices of the units in the order
+     * they were multiplied in, which is the order they are displayed in.
      */
-    private final static class Element implements Serializable {
-
-        /**
-         *
-         */
-        private static final long serialVersionUID = 452938412398890507L;
-
-        /**
-         * Holds the single unit.
-         */
-        private final Unit<?> unit;
+    private final static class ExponentVector {
+
+        private static final ExponentVector EMPTY = new ExponentVector(new Unit<?>[0], new int[0], new int[0], new int[0], new int[0]);
+
+        private final Unit<?>[] units;
+        private final int[] keys;
+        private final int[] pows;
+        private final int[] roots;
+        private final int[] order;
+
+        private ExponentVector(Unit<?>[] units, int[] keys, int[] pows, int[] roots, int[] order) {
+            this.units = units;
+            this.keys = keys;
+            this.pows = pows;
+            this.roots = roots;
+            this.order = order;
+        }
 
         /**
-         * Holds the power exponent.
+         * Returns the exponent vector of the given unit, a single element unless it is a
+         * product unit.
          */
-        private final int pow;
+        private static ExponentVector of(Unit<?> unit) {
+            if (unit instanceof ProductUnit<?>) {
+                return ((ProductUnit<?>) unit).vector;
+            }
+            return new ExponentVector(new Unit<?>[] { unit }, new int[] { unit.hashCode() }, new int[] { 1 }, new int[] { 1 }, new int[] { 0 });
+        }
 
         /**
-         * Holds the root exponent.
+         * Returns {@code this * that^sign}, with {@code sign} either 1 or -1.
          */
-        private final int root;
+        private ExponentVector multiply(ExponentVector that, int sign) {
+            final int n = this.units.length;
+            final int m = that.units.length;
+            final Builder result = new Builder(n + m);
+            // the positions of the elements of both operands in the result, -1 when merged or cancelled
+            final int[] thisPos = new int[n];
+            final int[] thatPos = new int[m];
+            Arrays.fill(thatPos, -1);
+            int i = 0;
+            int j = 0;
+            while (i < n || j < m) {
+                if (j == m || (i < n && this.keys[i] < that.keys[j])) {
+                    thisPos[i] = result.append(this.units[i], this.keys[i], this.pows[i], this.roots[i]);
+                    i++;
+                } else if (i == n || this.keys[i] > that.keys[j]) {
+                    thatPos[j] = result.append(that.units[j], that.keys[j], sign * that.pows[j], that.roots[j]);
+                    j++;
+                } else {
+                    // equal hash codes, merge the units of both groups which are equal
+                    final int key = this.keys[i];
+                    int iEnd = i;
+                    while (iEnd < n && this.keys[iEnd] == key) iEnd++;
+                    int jEnd = j;
+                    while (jEnd < m && that.keys[jEnd] == key) jEnd++;
+                    for (int a = i; a < iEnd; a++) {
+                        int pow = this.pows[a];
+                        int root = this.roots[a];
+                        final int b = indexOf(that, j, jEnd, this.units[a]);
+                        if (b >= 0) {
+                            pow = pow * that.roots[b] + sign * that.pows[b] * root;
+                            root = root * that.roots[b];
+                        }
+                        thisPos[a] = result.appendReduced(this.units[a], key, pow, root);
+                    }
+                    for (int b = j; b < jEnd; b++) {
+                        if (indexOf(this, i, iEnd, that.units[b]) < 0) {
+                            thatPos[b] = result.append(that.units[b], key, sign * that.pows[b], that.roots[b]);
+                        }
+                    }
+                    i = iEnd;
+                    j = jEnd;
+                }
+            }
+            // the elements of this operand come first, then those only found in the other one
+            final int[] order = new int[result.size];
+            int k = 0;
+            for (int a : this.order) {
+                if (thisPos[a] >= 0) order[k++] = thisPos[a];
+            }
+            for (int b : that.order) {
+                if (thatPos[b] >= 0) order[k++] = thatPos[b];
+            }
+            return result.build(order);
+        }
 
         /**
-         * Structural constructor.
-         *
-         * @param unit
-         *            the unit.
-         * @param pow
-         *            the power exponent.
-         * @param root
-         *            the root exponent.
+         * Returns this vector with all exponents multiplied by {@code pow / root}.
          */
-        private Element(Unit<?> unit, int pow, int root) {
-            this.unit = unit;
-            this.pow = pow;
-            this.root = root;
+        private ExponentVector scale(int pow, int root) {
+            if (pow == 0) return EMPTY;
+            final Builder result = new Builder(units.length);
+            for (int i = 0; i < units.length; i++) {
+                result.appendReduced(units[i], keys[i], pows[i] * pow, roots[i] * root);
+            }
+            // no element is cancelled, hence none is moved
+            return result.build(order);
         }
 
-        /**
-         * Returns this element's unit.
-         *
-         * @return the single unit.
-         */
-        public Unit<?> getUnit() {
-            return unit;
+        private static int indexOf(ExponentVector vector, int from, int to, Unit<?> unit) {
+            for (int i = from; i < to; i++) {
+                if (vector.units[i] == unit || vector.units[i].equals(unit)) {
+                    return i;
+                }
+            }
+            return -1;
         }
 
-        /**
-         * Returns the power exponent. The power exponent can be negative but is always different from zero.
-         *
-         * @return the power exponent of the single unit.
-         */
-        public int getPow() {
-            return pow;
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof ExponentVector)) return false;
+            final ExponentVector that = (ExponentVector) obj;
+            final int n = this.units.length;
+            if (n != that.units.length) return false;
+            for (int i = 0; i < n; i++) {
+                if (this.pows[i] != that.pows[i] || this.roots[i] != that.roots[i]
+                        || (this.units[i] != that.units[i] && !this.units[i].equals(that.units[i]))) {
+                    // units of equal hash codes may be ordered differently
+                    return equalsArbitraryOrder(that);
+                }
+            }
+            return true;
         }
 
         /**
-         * Returns the root exponent. The root exponent is always greater than zero.
-         *
-         * @return the root exponent of the single unit.
+         * Returns whether the given vector holds the same elements, displayed in the same order.
          */
-        public int getRoot() {
-            return root;
+        private boolean displayEquals(ExponentVector that) {
+            final int n = this.units.length;
+            if (n != that.units.length) return false;
+            for (int k = 0; k < n; k++) {
+                final int i = this.order[k];
+                final int j = that.order[k];
+                if (this.pows[i] != that.pows[j] || this.roots[i] != that.roots[j]
+                        || (this.units[i] != that.units[j] && !this.units[i].equals(that.units[j]))) {
+                    return false;
+                }
+            }
+            return true;
         }
 
-        @Override
-        public boolean equals(Object o) {
-            if (this == o)
-                return true;
-            if (o == null || getClass() != o.getClass())
-                return false;
-
-            final Element other = (Element) o;
-
-            if (!Objects.equals(this.pow, other.pow)) {
-                return false;
-            }
-            if (!Objects.equals(this.root, other.root)) {
-                return false;
+        private boolean equalsArbitraryOrder(ExponentVector that) {
+            final int n = this.units.length;
+            for (int i = 0; i < n; i++) {
+                final int j = indexOf(that, 0, n, this.units[i]);
+                if (j < 0 || this.pows[i] != that.pows[j] || this.roots[i] != that.roots[j]) {
+                    return false;
+                }
             }
-            return Objects.equals(this.unit, other.unit);
+            return true;
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(unit, pow, root);
+            // the sum does not depend on the order of the units, neither does equals
+            int h = 0;
+            for (int i = 0; i < units.length; i++) {
+                h += (31 * keys[i] + pows[i]) * 31 + roots[i];
+            }
+            return h;
         }
     }
 
-    // Element specific algorithms provided locally to this class
-    private final static class ElementUtil {
-        
-        // -- returns a defensive sorted copy, unless size <= 1 
-        private static Element[] copyAndSort(final Element[] elements) {
-            if (elements == null || elements.length <= 1) {
-                return elements;
-            }
-            final Element[] elementsSorted = Arrays.copyOf(elements, elements.length);
-            Arrays.sort(elementsSorted, ElementUtil::compare);
-            return elementsSorted;
+    /**
+     * Appends the elements of an exponent vector, trimming the arrays at the end.
+     */
+    private final static class Builder {
+
+        private final Unit<?>[] units;
+        private final int[] keys;
+        private final int[] pows;
+        private final int[] roots;
+        private int size;
+
+        private Builder(int capacity) {
+            this.units = new Unit<?>[capacity];
+            this.keys = new int[capacity];
+            this.pows = new int[capacity];
+            this.roots = new int[capacity];
         }
-        
-        private static int compare(final Element e0, final Element e1) {
-            final Unit<?> sysUnit0 = e0.getUnit().getSystemUnit();
-            final Unit<?> sysUnit1 = e1.getUnit().getSystemUnit();
-            final String symbol0 = sysUnit0.getSymbol();
-            final String symbol1 = sysUnit1.getSymbol();
-            
-            if (symbol0 != null && symbol1 != null) {
-                return symbol0.compareTo(symbol1);
-            } else {
-                return sysUnit0.toString().compareTo(sysUnit1.toString());
-            }
+
+        /**
+         * Appends the given element, returning its position.
+         */
+        private int append(Unit<?> unit, int key, int pow, int root) {
+            units[size] = unit;
+            keys[size] = key;
+            pows[size] = pow;
+            roots[size] = root;
+            return size++;
         }
-        
-        // optimized for the fact, that can only return true, if for each element in e0 there exist a single match in e1
-        private static boolean arrayEqualsArbitraryOrder(final Element[] e0, final Element[] e1) {
-            if (e0.length != e1.length) {
-                return false;
-            }
-            for (Element left : e0) {
-                boolean unitFound = false;
-                for (Element right : e1) {
-                    if (left.unit.equals(right.unit)) {
-                        if (left.pow != right.pow || left.root != right.root) {
-                            return false;
-                        } else {
-                            unitFound = true;
-                            break;
-                        }
-                    }
-                }
-                if (!unitFound) {
-                    return false;
-                }
-            }
-            return true;
+
+        /**
+         * Appends the given element in lowest terms, returning its position or -1 if its
+         * power is zero.
+         */
+        private int appendReduced(Unit<?> unit, int key, int pow, int root) {
+            if (pow == 0) return -1;
+            final int gcd = gcd(Math.abs(pow), root);
+            return append(unit, key, pow / gcd, root / gcd);
+        }
+
+        private ExponentVector build(int[] order) {
+            if (size == 0) return ExponentVector.EMPTY;
+            if (size == units.length) return new ExponentVector(units, keys, pows, roots, order);
+            return new ExponentVector(Arrays.copyOf(units, size), Arrays.copyOf(keys, size),
+                                        Arrays.copyOf(pows, size), Arrays.copyOf(roots, size), order);
         }
     }
-    
-    
 
 }
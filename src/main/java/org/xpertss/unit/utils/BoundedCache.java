@@ -0,0 +1,171 @@
+package org.xpertss.unit.utils;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread safe cache holding at most {@code capacity} entries.
+ * <p/>
+ * Lookups are lock free. Once the capacity is exceeded entries are evicted using the
+ * CLOCK (second chance) policy: an entry that was read since the clock hand last passed
+ * it is spared once, so frequently used entries survive while stale ones are dropped.
+ * <p/>
+ * Values are never computed by the cache itself. Callers {@link #get(Object) look up}
+ * a key and, on a miss, compute the value and {@link #put(Object, Object) publish} it.
+ * Two threads missing the same key concurrently may both compute the value, the first
+ * one published wins.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of values
+ */
+public final class BoundedCache<K, V> {
+
+   private final ConcurrentHashMap<K, Node<V>> map;
+   private final int capacity;
+
+   private final LongAdder hits = new LongAdder();
+   private final LongAdder misses = new LongAdder();
+   private final LongAdder evictions = new LongAdder();
+
+   private final Object $lock = new Object(); // guards 'hand'
+   private Iterator<Map.Entry<K, Node<V>>> hand;
+
+   /**
+    * Creates a cache holding at most {@code capacity} entries.
+    *
+    * @param capacity the maximum number of entries, a capacity of zero disables caching
+    * @throws IllegalArgumentException if capacity is negative
+    */
+   public BoundedCache(int capacity)
+   {
+      if(capacity < 0) throw new IllegalArgumentException("capacity cannot be negative");
+      this.capacity = capacity;
+      this.map = new ConcurrentHashMap<>(Math.min(capacity, 1 << 16));
+   }
+
+   /**
+    * Returns the value cached for the given key or {@code null} if there is none.
+    *
+    * @param key the key
+    * @return the cached value or {@code null}
+    */
+   public V get(K key)
+   {
+      final Node<V> node = map.get(key);
+      if(node == null) {
+         misses.increment();
+         return null;
+      }
+      if(!node.referenced) node.referenced = true;
+      hits.increment();
+      return node.value;
+   }
+
+   /**
+    * Publishes a value for the given key, unless a value is already cached, and returns
+    * the value now cached.
+    *
+    * @param key the key
+    * @param value the value
+    * @return the value cached for the key, which is not necessarily the given value
+    */
+   public V put(K key, V value)
+   {
+      Objects.requireNonNull(value);
+      if(capacity == 0) return value;
+      final Node<V> prior = map.putIfAbsent(key, new Node<>(value));
+      if(prior != null) return prior.value;
+      if(map.size() > capacity) evict();
+      return value;
+   }
+
+   /**
+    * Removes all entries, statistics are left untouched.
+    */
+   public void clear()
+   {
+      map.clear();
+   }
+
+   /**
+    * Returns the number of cached entries.
+    */
+   public int size()
+   {
+      return map.size();
+   }
+
+   /**
+    * Returns the maximum number of cached entries.
+    */
+   public int capacity()
+   {
+      return capacity;
+   }
+
+   /**
+    * Returns the number of lookups which found a cached value.
+    */
+   public long hitCount()
+   {
+      return hits.sum();
+   }
+
+   /**
+    * Returns the number of lookups which did not find a cached value.
+    */
+   public long missCount()
+   {
+      return misses.sum();
+   }
+
+   /**
+    * Returns the number of entries evicted to keep the cache within its capacity.
+    */
+   public long evictionCount()
+   {
+      return evictions.sum();
+   }
+
+   @Override
+   public String toString()
+   {
+      return String.format("BoundedCache[size=%d, capacity=%d, hits=%d, misses=%d, evictions=%d]",
+                              size(), capacity, hitCount(), missCount(), evictionCount());
+   }
+
+   // -- HELPER
+
+   private void evict()
+   {
+      synchronized ($lock) {
+         while(map.size() > capacity) {
+            if(hand == null || !hand.hasNext()) {
+               hand = map.entrySet().iterator();
+               if(!hand.hasNext()) return;
+            }
+            final Map.Entry<K, Node<V>> entry = hand.next();
+            final Node<V> node = entry.getValue();
+            if(node.referenced) {
+               node.referenced = false; // second chance
+            } else if(map.remove(entry.getKey(), node)) {
+               evictions.increment();
+            }
+         }
+      }
+   }
+
+   private static final class Node<V> {
+      private final V value;
+      private volatile boolean referenced;
+
+      private Node(V value)
+      {
+         this.value = value;
+      }
+   }
+
+}
@@ -0,0 +1,124 @@
+package org.xpertss.unit.utils;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiPredicate;
+
+/**
+ * A thread safe canonicalizing table, mapping values to a single representative instance
+ * per equivalence class, so that equal values can be compared by identity.
+ * <p/>
+ * Representatives are only weakly referenced, once no longer in use elsewhere they are
+ * garbage collected and their entries purged. Lookups are lock free.
+ * <p/>
+ * Values are equivalent when they are equal, unless a finer equivalence is given. It must
+ * imply equality, as values are hashed by their hash code.
+ *
+ * @param <T> the type of interned values, which must be immutable
+ */
+public final class WeakInterner<T> {
+
+   private final ConcurrentHashMap<Ref<T>, Ref<T>> map = new ConcurrentHashMap<>();
+   private final ReferenceQueue<T> queue = new ReferenceQueue<>();
+   private final BiPredicate<? super T, ? super T> equivalence;
+
+   /**
+    * Creates an interner of equal values.
+    */
+   public WeakInterner()
+   {
+      this(Object::equals);
+   }
+
+   /**
+    * Creates an interner of values which are equivalent according to the given predicate.
+    *
+    * @param equivalence an equivalence relation, implying equality
+    */
+   public WeakInterner(BiPredicate<? super T, ? super T> equivalence)
+   {
+      this.equivalence = Objects.requireNonNull(equivalence);
+   }
+
+   /**
+    * Returns the representative instance equal to the given value. If there is none the
+    * given value becomes the representative.
+    *
+    * @param value the value to intern
+    * @return the representative equal to the given value
+    * @throws NullPointerException if value is {@code null}
+    */
+   public T intern(T value)
+   {
+      Objects.requireNonNull(value);
+      expunge();
+      final Ref<T> probe = new Ref<>(value, null, equivalence);
+      for(;;) {
+         Ref<T> ref = map.get(probe);
+         if(ref == null) {
+            final Ref<T> candidate = new Ref<>(value, queue, equivalence);
+            ref = map.putIfAbsent(candidate, candidate);
+            if(ref == null) return value;
+         }
+         final T representative = ref.get();
+         if(representative != null) return representative;
+         map.remove(ref, ref); // collected in between, try again
+      }
+   }
+
+   /**
+    * Returns the number of interned values, including values collected but not yet purged.
+    */
+   public int size()
+   {
+      expunge();
+      return map.size();
+   }
+
+   // -- HELPER
+
+   private void expunge()
+   {
+      Object ref;
+      while((ref = queue.poll()) != null) {
+         map.remove(ref);
+      }
+   }
+
+   private static final class Ref<T> extends WeakReference<T> {
+
+      private final int hashCode;
+      private final BiPredicate<? super T, ? super T> equivalence;
+
+      private Ref(T referent, ReferenceQueue<? super T> queue, BiPredicate<? super T, ? super T> equivalence)
+      {
+         super(referent, queue);
+         this.hashCode = referent.hashCode();
+         this.equivalence = equivalence;
+      }
+
+      @Override
+      public boolean equals(Object obj)
+      {
+         if (this == obj) return true;
+         if (obj instanceof Ref) {
+            @SuppressWarnings("unchecked")
+            final Ref<T> that = (Ref<T>) obj;
+            if (this.hashCode != that.hashCode) return false;
+            final T referent = this.get();
+            final T other = that.get();
+            return referent != null && other != null && equivalence.test(referent, other);
+         }
+         return false;
+      }
+
+      @Override
+      public int hashCode()
+      {
+         return hashCode;
+      }
+   }
+
+}
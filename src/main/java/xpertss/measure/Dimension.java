@@ -1,12 +1,10 @@
 package xpertss.measure;
 
 
-import org.xpertss.unit.types.BaseUnit;
-import org.xpertss.unit.types.ProductUnit;
-
-import java.util.HashMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Objects;
 
 
 /**
@@ -16,6 +14,14 @@ import java.util.Objects;
  * <p/>
  * Two units {@code u1} and {@code u2} are {@link Unit#isCompatible(Unit) compatible}
  * if and only if {@code u1.getDimension().equals(u2.getDimension())}.
+ * <p/>
+ * A dimension is the product of rational powers of the eight fundamental dimensions. The
+ * exponents are packed into a single {@code long}, one signed byte per fundamental
+ * dimension counting twelfths, so that square, cubic, fourth and sixth roots are exact.
+ * Products, quotients, powers, {@code equals} and {@code hashCode} are then a few integer
+ * operations. Exponents which do not fit (beyond about &#177;10, or other roots) are held
+ * as exact fractions instead; a dimension is packed whenever it fits, hence both forms
+ * never represent the same dimension.
  *
  * @see <a href="http://en.wikipedia.org/wiki/Dimensional_analysis">Wikipedia:
  * Dimensional Analysis</a>
@@ -23,83 +29,95 @@ import java.util.Objects;
 public class Dimension {
 
 
+   /**
+    * The number of fundamental dimensions, one byte of the packed exponents each.
+    */
+   private static final int LANES = 8;
+
+   /**
+    * The packed exponents count in twelfths.
+    */
+   private static final int DENOMINATOR = 12;
+
+   private static final char[] SYMBOLS = { 'L', 'M', 'T', 'I', 'Q', '\u0398', 'N', 'J' };
+
    /**
     * Holds dimensionless.
     */
-   public static final Dimension NONE = new Dimension(Unit.ONE);
+   public static final Dimension NONE = new Dimension(0L, null);
 
    /**
     * Holds length dimension (L).
     */
-   public static final Dimension LENGTH = new Dimension('L');
+   public static final Dimension LENGTH = fundamental(0);
 
    /**
     * Holds mass dimension (M).
     */
-   public static final Dimension MASS = new Dimension('M');
+   public static final Dimension MASS = fundamental(1);
 
    /**
     * Holds time dimension (T).
     */
-   public static final Dimension TIME = new Dimension('T');
+   public static final Dimension TIME = fundamental(2);
 
    /**
     * Holds electric current dimension (I).
     */
-   public static final Dimension ELECTRIC_CURRENT = new Dimension('I');
+   public static final Dimension ELECTRIC_CURRENT = fundamental(3);
 
    /**
     * Holds electric charge dimension (Q).
     */
-   public static final Dimension ELECTRIC_CHARGE = new Dimension('Q');
+   public static final Dimension ELECTRIC_CHARGE = fundamental(4);
 
    /**
-    * Holds temperature dimension (Θ).
+    * Holds temperature dimension (\u0398).
     */
-   public static final Dimension TEMPERATURE = new Dimension('\u0398');
+   public static final Dimension TEMPERATURE = fundamental(5);
 
    /**
     * Holds amount of substance dimension (N).
     */
-   public static final Dimension AMOUNT_OF_SUBSTANCE = new Dimension('N');
+   public static final Dimension AMOUNT_OF_SUBSTANCE = fundamental(6);
 
    /**
     * Holds luminous intensity dimension (J).
     */
-   public static final Dimension LUMINOUS_INTENSITY = new Dimension('J');
+   public static final Dimension LUMINOUS_INTENSITY = fundamental(7);
+
+   private static final Dimension[] FUNDAMENTALS = {
+      LENGTH, MASS, TIME, ELECTRIC_CURRENT, ELECTRIC_CHARGE, TEMPERATURE, AMOUNT_OF_SUBSTANCE, LUMINOUS_INTENSITY
+   };
 
 
    // TODO In UCUM there is PLANE_ANGLE (radian) with no symbol and ELECTRIC_CHARGE (coulomb) with Q symbol
 
 
    /**
-    * Holds the pseudo unit associated to this dimension.
+    * Holds the exponents in twelfths, one signed byte per fundamental dimension.
     */
-   private final Unit<?> pseudoUnit;
-
-
-
-
+   private final long packed;
 
    /**
-    * Returns the unit dimension having the specified symbol.
-    *
-    * @param symbol the associated symbol.
+    * Holds the exponents as reduced fractions {@code [numerator, denominator, ...]} if they
+    * do not fit the packed form, otherwise {@code null}.
     */
-   @SuppressWarnings("rawtypes")
-   private Dimension(char symbol)
-   {
-      pseudoUnit = new BaseUnit("[" + symbol + ']', NONE);
-   }
+   private final int[] fractions;
 
    /**
-    * Constructor from pseudo-unit (not visible).
-    *
-    * @param pseudoUnit the pseudo-unit.
+    * Holds the base dimensions, computed on first use.
     */
-   private Dimension(Unit<?> pseudoUnit)
+   private volatile Map<Dimension, Integer> baseDimensions;
+
+
+
+
+
+   private Dimension(long packed, int[] fractions)
    {
-      this.pseudoUnit = pseudoUnit;
+      this.packed = packed;
+      this.fractions = fractions;
    }
 
    /**
@@ -108,35 +126,54 @@ public class Dimension {
     */
    protected Dimension()
    {
-      this(Unit.ONE);
+      this(0L, null);
+   }
+
+   private static Dimension fundamental(int lane)
+   {
+      return new Dimension((long) DENOMINATOR << (lane * 8), null);
    }
 
 
    /**
     * Returns the product of this dimension with the one specified.
-    * If the specified dimension is not a <code>UnitDimension</code>, then
-    * <code>that.multiply(this)</code> is returned.
     *
     * @param that the dimension multiplicand.
     * @return <code>this * that</code>
     */
    public Dimension multiply(Dimension that)
    {
-      return new Dimension(this.pseudoUnit.multiply(that.pseudoUnit));
+      if (this.fractions == null && that.fractions == null) {
+         long result = 0;
+         for (int shift = 0; shift < 64; shift += 8) {
+            final int sum = (byte) (this.packed >> shift) + (byte) (that.packed >> shift);
+            if (sum != (byte) sum) return combine(this, that, 1);
+            result |= (sum & 0xFFL) << shift;
+         }
+         return of(result);
+      }
+      return combine(this, that, 1);
    }
 
 
    /**
     * Returns the quotient of this dimension with the one specified.
-    * If the specified dimension is not a <code>UnitDimension</code>, then
-    * <code>that.divide(this).pow(-1)</code> is returned.
     *
     * @param that the dimension divisor.
     * @return <code>this / that</code>
     */
    public Dimension divide(Dimension that)
    {
-      return new Dimension(ProductUnit.ofQuotient(pseudoUnit, that.pseudoUnit));
+      if (this.fractions == null && that.fractions == null) {
+         long result = 0;
+         for (int shift = 0; shift < 64; shift += 8) {
+            final int difference = (byte) (this.packed >> shift) - (byte) (that.packed >> shift);
+            if (difference != (byte) difference) return combine(this, that, -1);
+            result |= (difference & 0xFFL) << shift;
+         }
+         return of(result);
+      }
+      return combine(this, that, -1);
    }
 
 
@@ -148,7 +185,17 @@ public class Dimension {
     */
    public Dimension pow(int n)
    {
-      return new Dimension(this.pseudoUnit.pow(n));
+      if (n == 1) return this;
+      if (fractions == null) {
+         long result = 0;
+         for (int shift = 0; shift < 64; shift += 8) {
+            final long product = (long) (byte) (packed >> shift) * n;
+            if (product != (byte) product) return scale(n, 1);
+            result |= (product & 0xFFL) << shift;
+         }
+         return of(result);
+      }
+      return scale(n, 1);
    }
 
    /**
@@ -160,7 +207,18 @@ public class Dimension {
     */
    public Dimension root(int n)
    {
-      return new Dimension(this.pseudoUnit.root(n));
+      if (n == 0) throw new ArithmeticException("Root's order of zero");
+      if (n == 1) return this;
+      if (fractions == null) {
+         long result = 0;
+         for (int shift = 0; shift < 64; shift += 8) {
+            final int exponent = (byte) (packed >> shift);
+            if (exponent % n != 0) return scale(n < 0 ? -1 : 1, Math.abs(n));
+            result |= ((exponent / n) & 0xFFL) << shift;
+         }
+         return of(result);
+      }
+      return scale(n < 0 ? -1 : 1, Math.abs(n));
    }
 
 
@@ -174,15 +232,23 @@ public class Dimension {
     *
     * @return the mapping between the base dimensions and their exponent.
     */
-   @SuppressWarnings("rawtypes")
    public Map<? extends Dimension, Integer> getBaseDimensions() {
-      Map<? extends Unit, Integer> pseudoUnits = pseudoUnit.getBaseUnits();
-      if (pseudoUnits == null) return null;
-      final Map<Dimension, Integer> baseDimensions = new HashMap<>();
-      for (Map.Entry<? extends Unit, Integer> entry : pseudoUnits.entrySet()) {
-         baseDimensions.put(new Dimension(entry.getKey()), entry.getValue());
+      for (Dimension fundamental : FUNDAMENTALS) {
+         if (fundamental.equals(this)) return null;
+      }
+      Map<Dimension, Integer> result = baseDimensions;
+      if (result == null) {
+         final Map<Dimension, Integer> dimensions = new LinkedHashMap<>();
+         for (int lane = 0; lane < LANES; lane++) {
+            final int numerator = numerator(lane);
+            if (numerator != 0) {
+               // as for the base units of product units, roots are not part of the mapping
+               dimensions.put(FUNDAMENTALS[lane], numerator);
+            }
+         }
+         baseDimensions = result = Collections.unmodifiableMap(dimensions);
       }
-      return baseDimensions;
+      return result;
    }
 
    @Override
@@ -191,7 +257,7 @@ public class Dimension {
       if (this == obj) return true;
       if (obj instanceof Dimension) {
          Dimension other = (Dimension) obj;
-         return Objects.equals(pseudoUnit, other.pseudoUnit);
+         return this.packed == other.packed && Arrays.equals(this.fractions, other.fractions);
       }
       return false;
    }
@@ -199,26 +265,123 @@ public class Dimension {
    @Override
    public int hashCode()
    {
-      return Objects.hashCode(pseudoUnit);
+      return (fractions == null) ? Long.hashCode(packed) : Arrays.hashCode(fractions);
    }
 
    @Override
    public String toString()
    {
-      return pseudoUnit.toString();
+      final StringBuilder sb = new StringBuilder();
+      for (int lane = 0; lane < LANES; lane++) {
+         final int numerator = numerator(lane);
+         if (numerator == 0) continue;
+         final int denominator = denominator(lane);
+         if (sb.length() > 0) sb.append('\u00b7');
+         sb.append('[').append(SYMBOLS[lane]).append(']');
+         if (numerator != 1 || denominator != 1) {
+            sb.append('^').append(numerator);
+            if (denominator != 1) sb.append('/').append(denominator);
+         }
+      }
+      return (sb.length() == 0) ? "1" : sb.toString();
    }
 
+   // -- HELPER
 
+   private int numerator(int lane)
+   {
+      if (fractions != null) return fractions[2 * lane];
+      final int exponent = (byte) (packed >> (lane * 8));
+      return exponent / gcd(Math.abs(exponent), DENOMINATOR);
+   }
 
+   private int denominator(int lane)
+   {
+      if (fractions != null) return fractions[2 * lane + 1];
+      final int exponent = (byte) (packed >> (lane * 8));
+      return DENOMINATOR / gcd(Math.abs(exponent), DENOMINATOR);
+   }
 
+   /**
+    * Returns the dimension of the given packed exponents.
+    */
+   private static Dimension of(long packed)
+   {
+      if (packed == 0L) return NONE;
+      return new Dimension(packed, null);
+   }
 
+   /**
+    * Returns {@code a * b^sign} computed on fractions.
+    */
+   private static Dimension combine(Dimension a, Dimension b, int sign)
+   {
+      final int[] result = new int[2 * LANES];
+      for (int lane = 0; lane < LANES; lane++) {
+         final long nb = b.numerator(lane);
+         final long db = b.denominator(lane);
+         final long na = a.numerator(lane);
+         final long da = a.denominator(lane);
+         reduce(result, lane, na * db + sign * nb * da, da * db);
+      }
+      return of(result);
+   }
 
+   /**
+    * Returns this dimension with the exponents multiplied by {@code n / d}.
+    */
+   private Dimension scale(long n, long d)
+   {
+      final int[] result = new int[2 * LANES];
+      for (int lane = 0; lane < LANES; lane++) {
+         reduce(result, lane, numerator(lane) * n, denominator(lane) * d);
+      }
+      return of(result);
+   }
 
+   private static void reduce(int[] fractions, int lane, long numerator, long denominator)
+   {
+      final long gcd = gcd(Math.abs(numerator), denominator);
+      final long n = numerator / gcd;
+      final long d = denominator / gcd;
+      if (n != (int) n || d != (int) d) {
+         throw new ArithmeticException("Dimension exponent overflow");
+      }
+      fractions[2 * lane] = (int) n;
+      fractions[2 * lane + 1] = (int) d;
+   }
 
+   /**
+    * Returns the dimension of the given reduced fractions, packed if possible.
+    */
+   private static Dimension of(int[] fractions)
+   {
+      long packed = 0;
+      for (int lane = 0; lane < LANES; lane++) {
+         final int numerator = fractions[2 * lane];
+         final int denominator = fractions[2 * lane + 1];
+         if (DENOMINATOR % denominator != 0) return new Dimension(0L, fractions);
+         final long twelfths = (long) numerator * (DENOMINATOR / denominator);
+         if (twelfths != (byte) twelfths) return new Dimension(0L, fractions);
+         packed |= (twelfths & 0xFFL) << (lane * 8);
+      }
+      return of(packed);
+   }
 
+   private static long gcd(long m, long n)
+   {
+      while (n != 0) {
+         final long r = m % n;
+         m = n;
+         n = r;
+      }
+      return (m == 0) ? 1 : m;
+   }
 
-
-
+   private static int gcd(int m, int n)
+   {
+      return (int) gcd((long) m, (long) n);
+   }
    /**
     * TODO Should I keep this or move it
     * Returns the dimension for the specified quantity type by aggregating the
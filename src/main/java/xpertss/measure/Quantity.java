@@ -238,6 +238,42 @@ public interface Quantity<Q extends Quantity<Q>> extends Comparable<Quantity<Q>>
     */
    Number getValue();
 
+   /**
+    * Returns the value of this {@code Quantity} as a {@code double}, which may involve
+    * rounding.
+    *
+    * @return the value as a {@code double}.
+    */
+   default double doubleValue()
+   {
+      return getValue().doubleValue();
+   }
+
+   /**
+    * Returns the value of this {@code Quantity} as a {@code long}, which may involve
+    * rounding or truncation.
+    *
+    * @return the value as a {@code long}.
+    */
+   default long longValue()
+   {
+      return getValue().longValue();
+   }
+
+   /**
+    * Returns the value of this {@code Quantity} stated in the specified unit as a
+    * {@code double}. This is equivalent to {@code to(unit).doubleValue()} except that
+    * implementations may convert without creating an intermediate quantity.
+    *
+    * @param unit
+    *            the {@code Unit} in which the returned value is stated.
+    * @return the value of this quantity in the specified unit as a {@code double}.
+    */
+   default double doubleValue(Unit<Q> unit)
+   {
+      return to(unit).doubleValue();
+   }
+
    /**
     * Returns the unit of this {@code Quantity}.
     *
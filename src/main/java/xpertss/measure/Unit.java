@@ -1,5 +1,6 @@
 package xpertss.measure;
 
+import org.xpertss.unit.ConverterCache;
 import org.xpertss.unit.DimensionalModel;
 import org.xpertss.unit.converters.AbstractConverter;
 import org.xpertss.unit.math.Calculator;
@@ -63,6 +64,10 @@ public abstract class Unit<Q extends Quantity<Q>> implements Comparable<Unit<Q>>
     */
    private String name;
 
+   /**
+    * Holds the dimension of this unit, computed on first use.
+    */
+   private volatile Dimension dimension;
 
 
    /**
@@ -200,9 +205,13 @@ public abstract class Unit<Q extends Quantity<Q>> implements Comparable<Unit<Q>>
     */
    public final boolean isCompatible(Unit<?> that)
    {
-      return (this == that) ||
-         this.getSystemUnit().equals(that.getSystemUnit()) ||
-         this.getDimension().equals(that.getDimension());
+      if (this == that) return true;
+      final Dimension thisDimension = this.dimension();
+      final Dimension thatDimension = that.dimension();
+      if (thisDimension != null && thatDimension != null) {
+         return thisDimension.equals(thatDimension);
+      }
+      return this.getSystemUnit().equals(that.getSystemUnit());
    }
 
    /**
@@ -224,14 +233,14 @@ public abstract class Unit<Q extends Quantity<Q>> implements Comparable<Unit<Q>>
    public final <T extends Quantity<T>> Unit<T> asType(Class<T> type)
       throws ClassCastException
    {
-      Dimension dim1 = this.getDimension();
+      Dimension dim1 = this.dimension();
       Unit<T> u;
       try {
          u = (Unit<T>) type.getField("UNIT").get(null);
       } catch(Exception e) {
          throw new Error(e);
       }
-      Dimension dim2 = u.getDimension();
+      Dimension dim2 = u.dimension();
       if(!dim1.equals(dim2)) {
          throw new ClassCastException();
       }
@@ -250,17 +259,21 @@ public abstract class Unit<Q extends Quantity<Q>> implements Comparable<Unit<Q>>
    {
 
       if((this == that) || this.equals(that)) return AbstractConverter.IDENTITY; // Shortcut.
+      final ConverterCache cache = ConverterCache.INSTANCE;
+      final UnitConverter cached = cache.get(this, that);
+      if(cached != null) return cached;
+
       Unit<Q> thisSystemUnit = this.getSystemUnit();
       Unit<Q> thatSystemUnit = that.getSystemUnit();
 
       if(thisSystemUnit.equals(thatSystemUnit)) {
          UnitConverter thisToSI = this.toSystemUnit();
          UnitConverter thatToSI = that.getConverterTo(thatSystemUnit);
-         return thatToSI.inverse().concatenate(thisToSI);
+         return cache.put(this, that, thatToSI.inverse().concatenate(thisToSI));
       }
 
       try {
-         return getConverterToAny(that);
+         return internalGetConverterToAny(that, cache);
       } catch (IncommensurableException e) {
          throw new UnconvertibleException(e);
       }
@@ -286,21 +299,42 @@ public abstract class Unit<Q extends Quantity<Q>> implements Comparable<Unit<Q>>
     *
     * @see #getConverterTo(Unit)
     * @see #isCompatible(Unit)
-    */   @SuppressWarnings("rawtypes")
+    */
    public final UnitConverter getConverterToAny(Unit<?> that)
       throws IncommensurableException, UnconvertibleException
+   {
+      final ConverterCache cache = ConverterCache.INSTANCE;
+      final UnitConverter cached = cache.get(this, that);
+      if(cached != null) return cached;
+      return internalGetConverterToAny(that, cache);
+   }
+
+   private UnitConverter internalGetConverterToAny(Unit<?> that, ConverterCache cache)
+      throws IncommensurableException, UnconvertibleException
    {
       if (!isCompatible(that))
          throw new IncommensurableException(this + " is not compatible with " + that);
       // compatible they must both be abstract units.
       final DimensionalModel model = DimensionalModel.current();
-      Unit thisSystemUnit = this.getSystemUnit();
-      UnitConverter thisToDimension = model.getDimensionalTransform(thisSystemUnit.getDimension())
+      // a unit has the dimension of its system unit
+      UnitConverter thisToDimension = model.getDimensionalTransform(this.dimension())
          .concatenate(this.toSystemUnit());
-      Unit thatSystemUnit = that.getSystemUnit();
-      UnitConverter thatToDimension = model.getDimensionalTransform(thatSystemUnit.getDimension())
+      UnitConverter thatToDimension = model.getDimensionalTransform(that.dimension())
          .concatenate(that.toSystemUnit());
-      return thatToDimension.inverse().concatenate(thisToDimension);
+      return cache.put(this, that, thatToDimension.inverse().concatenate(thisToDimension));
+   }
+
+   /**
+    * Returns the dimension of this unit, it is looked up once as units are immutable.
+    * Being packed exponents, dimensions are compared in a few integer operations.
+    */
+   private Dimension dimension()
+   {
+      Dimension result = dimension;
+      if (result == null) {
+         dimension = result = getDimension();
+      }
+      return result;
    }
 
 
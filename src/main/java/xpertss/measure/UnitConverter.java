@@ -1,6 +1,9 @@
 package xpertss.measure;
 
+import org.xpertss.unit.math.LongMath;
+
 import java.util.List;
+import java.util.function.DoubleUnaryOperator;
 
 /**
  * A converter of numeric values between different units.
@@ -77,6 +80,190 @@ public interface UnitConverter {
     */
    Number convert(Number value);
 
+   /**
+    * Converts a {@code double} value. The precision is that of {@code double} arithmetic.
+    * <p/>
+    * The default implementation delegates to {@link #convert(Number)}, implementations
+    * are encouraged to convert without boxing.
+    *
+    * @param value
+    *          the {@code double} value to convert.
+    * @return the {@code double} value after conversion.
+    */
+   default double convert(double value)
+   {
+      return convert((Number) value).doubleValue();
+   }
+
+   /**
+    * Converts an integral value exactly, as {@link #convert(Number)} does for the boxed
+    * value. This overload makes sure {@code int} arguments (e.g. {@code convert(3)}) are
+    * not widened to {@code double} by {@link #convert(double)}.
+    *
+    * @param value
+    *          the {@code int} value to convert.
+    * @return the {@code Number} value after conversion.
+    */
+   default Number convert(int value)
+   {
+      return convert((Number) value);
+   }
+
+   /**
+    * Converts an integral value exactly, as {@link #convert(Number)} does for the boxed
+    * value. This overload makes sure {@code long} arguments are not widened to
+    * {@code double} by {@link #convert(double)}; see {@link #convertToLong(long)} for a
+    * conversion to a primitive {@code long}.
+    *
+    * @param value
+    *          the {@code long} value to convert.
+    * @return the {@code Number} value after conversion.
+    */
+   default Number convert(long value)
+   {
+      return convert((Number) value);
+   }
+
+   /**
+    * Converts a {@code long} value to a {@code long}. The result is rounded to the closest
+    * {@code long}, with ties rounding towards positive infinity.
+    * <p/>
+    * Converters made of exact multiply and add steps (e.g. those of {@link MetricPrefix}
+    * and {@link BinaryPrefix}) convert in integer arithmetic. Any other converter, e.g. one
+    * with a logarithmic or a {@code double} step, computes in {@code double} precision and
+    * rounds the result, which loses integer precision for magnitudes beyond 2<sup>53</sup>.
+    * <p/>
+    * The default implementation delegates to {@link #convert(Number)}, implementations
+    * are encouraged to convert without boxing.
+    *
+    * @param value
+    *          the {@code long} value to convert.
+    * @return the {@code long} value after conversion.
+    * @throws ArithmeticException if the result does not fit into a {@code long}.
+    */
+   default long convertToLong(long value)
+   {
+      return LongMath.round(convert((Number) value).doubleValue());
+   }
+
+   /**
+    * Converts a {@code long} value exactly, that is without rounding. Integer-exact
+    * converters (e.g. those of {@link MetricPrefix} and {@link BinaryPrefix}) convert
+    * without allocating.
+    * <p/>
+    * The default implementation delegates to {@link #convert(Number)}.
+    *
+    * @param value
+    *          the {@code long} value to convert.
+    * @return the {@code long} value after conversion.
+    * @throws ArithmeticException if the result is not an integer or does not fit into a
+    *          {@code long}.
+    */
+   default long convertExact(long value)
+   {
+      return LongMath.toLongExact(convert((Number) value));
+   }
+
+   /**
+    * Converts {@code len} {@code double} values of {@code src}, starting at {@code srcOff},
+    * and stores the results in {@code dst}, starting at {@code dstOff}. Each element is
+    * converted as by {@link #convert(double)}.
+    * <p/>
+    * {@code src} and {@code dst} may be the same array, the ranges may even overlap; the
+    * result is as if the source range was first copied to a temporary array.
+    * <p/>
+    * The default implementation converts element by element, implementations are
+    * encouraged to provide a tight loop for their transformation.
+    *
+    * @param src the source array.
+    * @param srcOff the index of the first value to convert.
+    * @param dst the destination array.
+    * @param dstOff the index at which the first converted value is stored.
+    * @param len the number of values to convert.
+    * @throws IndexOutOfBoundsException if either range is out of the bounds of its array.
+    */
+   default void convert(double[] src, int srcOff, double[] dst, int dstOff, int len)
+   {
+      if(src == dst && srcOff < dstOff && dstOff < srcOff + len) {
+         System.arraycopy(src, srcOff, dst, dstOff, len);
+         srcOff = dstOff;
+      }
+      for(int i = 0; i < len; i++) {
+         dst[dstOff + i] = convert(src[srcOff + i]);
+      }
+   }
+
+   /**
+    * Converts {@code len} {@code float} values of {@code src}, starting at {@code srcOff},
+    * and stores the results in {@code dst}, starting at {@code dstOff}. Each element is
+    * converted using {@code double} arithmetic and then narrowed to {@code float}.
+    * <p/>
+    * {@code src} and {@code dst} may be the same array, the ranges may even overlap; the
+    * result is as if the source range was first copied to a temporary array.
+    *
+    * @param src the source array.
+    * @param srcOff the index of the first value to convert.
+    * @param dst the destination array.
+    * @param dstOff the index at which the first converted value is stored.
+    * @param len the number of values to convert.
+    * @throws IndexOutOfBoundsException if either range is out of the bounds of its array.
+    */
+   default void convert(float[] src, int srcOff, float[] dst, int dstOff, int len)
+   {
+      if(src == dst && srcOff < dstOff && dstOff < srcOff + len) {
+         System.arraycopy(src, srcOff, dst, dstOff, len);
+         srcOff = dstOff;
+      }
+      for(int i = 0; i < len; i++) {
+         dst[dstOff + i] = (float) convert((double) src[srcOff + i]);
+      }
+   }
+
+   /**
+    * Converts {@code len} {@code long} values of {@code src}, starting at {@code srcOff},
+    * and stores the results in {@code dst}, starting at {@code dstOff}. Each element is
+    * converted as by {@link #convertToLong(long)}.
+    * <p/>
+    * {@code src} and {@code dst} may be the same array, the ranges may even overlap; the
+    * result is as if the source range was first copied to a temporary array.
+    *
+    * @param src the source array.
+    * @param srcOff the index of the first value to convert.
+    * @param dst the destination array.
+    * @param dstOff the index at which the first converted value is stored.
+    * @param len the number of values to convert.
+    * @throws IndexOutOfBoundsException if either range is out of the bounds of its array.
+    * @throws ArithmeticException if a result does not fit into a {@code long}, in which
+    *          case the destination range is left partially converted.
+    */
+   default void convert(long[] src, int srcOff, long[] dst, int dstOff, int len)
+   {
+      if(src == dst && srcOff < dstOff && dstOff < srcOff + len) {
+         System.arraycopy(src, srcOff, dst, dstOff, len);
+         srcOff = dstOff;
+      }
+      for(int i = 0; i < len; i++) {
+         dst[dstOff + i] = convertToLong(src[srcOff + i]);
+      }
+   }
+
+   /**
+    * Returns a primitive {@code double} function equivalent to this converter. The
+    * returned operator is intended for hot loops where the boxing and {@code Number}
+    * dispatch done by {@link #convert(Number)} is too costly. The precision is that
+    * of {@code double} arithmetic.
+    * <p/>
+    * The default implementation simply delegates to {@link #convert(double)}.
+    * Implementations are encouraged to flatten their conversion steps into as few
+    * floating-point operations as possible.
+    *
+    * @return a {@code double} function equivalent to this converter.
+    */
+   default DoubleUnaryOperator toDoubleOperator()
+   {
+      return value -> convert(value);
+   }
+
 
    /**
     * Concatenates this converter with another converter. The resulting converter is
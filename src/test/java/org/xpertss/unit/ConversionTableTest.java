@@ -0,0 +1,40 @@
+package org.xpertss.unit;
+
+import org.junit.jupiter.api.Test;
+import xpertss.measure.UnconvertibleException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static xpertss.measure.MetricPrefix.KILO;
+import static xpertss.measure.ucum.Base.*;
+import static xpertss.measure.ucum.SI.CELSIUS;
+import static xpertss.measure.ucum.customary.International.FOOT_INTERNATIONAL;
+import static xpertss.measure.ucum.customary.Legacy.FAHRENHEIT;
+
+class ConversionTableTest {
+
+    @Test
+    public void testConvert()
+    {
+        ConversionTable table = ConversionTable.of(METRE, KILO(METRE), FOOT_INTERNATIONAL, KELVIN, CELSIUS, FAHRENHEIT, METRE);
+        assertEquals(6, table.size());
+        int km = table.idOf(KILO(METRE));
+        int ft = table.idOf(FOOT_INTERNATIONAL);
+        assertEquals(KILO(METRE).getConverterTo(FOOT_INTERNATIONAL).convert(1.5), table.convert(km, ft, 1.5), 1e-9);
+        assertEquals(212d, table.convert(CELSIUS, FAHRENHEIT, 100d), 1e-9);
+        assertEquals(373.15, table.convert(FAHRENHEIT, KELVIN, 212d), 1e-9);
+
+        double[] values = { 0, 100 };
+        table.convert(table.idOf(CELSIUS), table.idOf(FAHRENHEIT), values, 0, values, 0, 2);
+        assertArrayEquals(new double[] { 32, 212 }, values, 1e-9);
+    }
+
+    @Test
+    public void testIncompatible()
+    {
+        ConversionTable table = ConversionTable.of(METRE, KELVIN);
+        assertFalse(table.isConvertible(0, 1));
+        assertThrows(UnconvertibleException.class, () -> table.convert(0, 1, 1d));
+        assertEquals(-1, table.idOf(CELSIUS));
+    }
+
+}
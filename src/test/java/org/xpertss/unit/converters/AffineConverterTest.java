@@ -0,0 +1,79 @@
+package org.xpertss.unit.converters;
+
+import org.junit.jupiter.api.Test;
+import org.xpertss.unit.math.DoubleNumberSystem;
+import org.xpertss.unit.math.NumberSystems;
+import org.xpertss.unit.math.RationalNumber;
+import xpertss.measure.UnitConverter;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static xpertss.measure.ucum.Base.*;
+import static xpertss.measure.ucum.SI.CELSIUS;
+import static xpertss.measure.ucum.customary.Legacy.FAHRENHEIT;
+
+class AffineConverterTest {
+
+    @Test
+    public void testCelsiusToFahrenheitIsSingleStep()
+    {
+        UnitConverter converter = CELSIUS.getConverterTo(FAHRENHEIT);
+        assertTrue(converter instanceof AffineConverter);
+        assertEquals(1, converter.getConversionSteps().size());
+        assertExact("212", converter.convert((Number) 100));
+        assertExact("100", converter.inverse().convert((Number) 212));
+        assertSame(converter.inverse(), converter.inverse());
+        assertSame(converter, converter.inverse().inverse());
+    }
+
+    @Test
+    public void testFahrenheitToCelsiusIsExact()
+    {
+        UnitConverter converter = FAHRENHEIT.getConverterTo(CELSIUS);
+        assertExact("100", converter.convert((Number) 212));
+        assertExact("212", converter.inverse().convert((Number) 100));
+        assertExact("98.6", converter.inverse().convert((Number) 37));
+        assertExact("-40", converter.inverse().convert((Number) (-40)));
+    }
+
+    @Test
+    public void testInverseNotMemoizedWithinScope()
+    {
+        UnitConverter converter = MultiplyConverter.ofRational(5, 9).concatenate(new AddConverter(-32));
+        try(NumberSystems.Scope scope = NumberSystems.use(new DoubleNumberSystem())) {
+            converter.inverse();
+        }
+        assertExact("212", converter.inverse().convert((Number) 100));
+        assertSame(converter.inverse(), converter.inverse());
+        assertSame(converter, converter.inverse().inverse());
+    }
+
+    @Test
+    public void testExactComposition()
+    {
+        AbstractConverter scale = (AbstractConverter) MultiplyConverter.ofRational(1, 3);
+        UnitConverter converter = scale.concatenate(new AddConverter(0.3));
+        assertTrue(converter instanceof AffineConverter);
+        // 1/3 * (x + 3/10) = x/3 + 1/10
+        assertEquals(RationalNumber.of(1, 10), ((AffineConverter) converter).getOffset());
+        assertEquals(1, converter.concatenate(converter.inverse()).convert((Number) 1).intValue());
+        assertTrue(converter.concatenate(converter.inverse()).isIdentity());
+    }
+
+    @Test
+    public void testNormalization()
+    {
+        assertSame(AbstractConverter.IDENTITY, AffineConverter.of(1, 0));
+        assertTrue(AffineConverter.of(2, 0) instanceof MultiplyConverter);
+        assertTrue(AffineConverter.of(1, 2) instanceof AddConverter);
+    }
+
+    private static void assertExact(String expected, Number actual)
+    {
+        final BigDecimal value = (actual instanceof RationalNumber)
+                    ? ((RationalNumber) actual).bigDecimalValue() : new BigDecimal(actual.toString());
+        assertEquals(0, new BigDecimal(expected).compareTo(value), () -> expected + " != " + actual);
+    }
+
+}
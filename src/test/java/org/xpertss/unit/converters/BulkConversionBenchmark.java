@@ -0,0 +1,107 @@
+package org.xpertss.unit.converters;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import xpertss.measure.UnitConverter;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static xpertss.measure.MetricPrefix.KILO;
+import static xpertss.measure.ucum.Base.METRE;
+import static xpertss.measure.ucum.SI.CELSIUS;
+import static xpertss.measure.ucum.customary.Legacy.FAHRENHEIT;
+
+/**
+ * Compares the bulk array conversion against a scalar loop converting one value at a
+ * time. Run {@link #main} from the test class path after {@code mvn test-compile}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BulkConversionBenchmark {
+
+    @Param({ "scale", "affine" })
+    public String conversion;
+
+    @Param({ "65536" })
+    public int size;
+
+    private UnitConverter converter;
+    private double[] src;
+    private double[] dst;
+    private float[] floatSrc;
+    private float[] floatDst;
+
+    @Setup
+    public void setup()
+    {
+        // Base has to be initialized ahead of SI
+        UnitConverter scale = KILO(METRE).getConverterTo(METRE);
+        converter = "scale".equals(conversion) ? scale : CELSIUS.getConverterTo(FAHRENHEIT);
+        Random random = new Random(42);
+        src = new double[size];
+        dst = new double[size];
+        floatSrc = new float[size];
+        floatDst = new float[size];
+        for(int i = 0; i < size; i++) {
+            src[i] = random.nextDouble() * 100;
+            floatSrc[i] = (float) src[i];
+        }
+    }
+
+    @Benchmark
+    public double[] scalarLoop()
+    {
+        for(int i = 0; i < size; i++) {
+            dst[i] = converter.convert(src[i]);
+        }
+        return dst;
+    }
+
+    @Benchmark
+    public double[] bulk()
+    {
+        converter.convert(src, 0, dst, 0, size);
+        return dst;
+    }
+
+    @Benchmark
+    public float[] scalarLoopFloat()
+    {
+        for(int i = 0; i < size; i++) {
+            floatDst[i] = (float) converter.convert((double) floatSrc[i]);
+        }
+        return floatDst;
+    }
+
+    @Benchmark
+    public float[] bulkFloat()
+    {
+        converter.convert(floatSrc, 0, floatDst, 0, size);
+        return floatDst;
+    }
+
+    public static void main(String[] args) throws RunnerException
+    {
+        new Runner(new OptionsBuilder()
+                .include(BulkConversionBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+}
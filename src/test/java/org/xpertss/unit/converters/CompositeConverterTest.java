@@ -0,0 +1,24 @@
+package org.xpertss.unit.converters;
+
+import org.junit.jupiter.api.Test;
+import xpertss.measure.UnitConverter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompositeConverterTest {
+
+    @Test
+    public void testFlatSteps()
+    {
+        UnitConverter converter = new LogConverter(10)
+                .concatenate(MultiplyConverter.ofRational(1, 3))
+                .concatenate(new ExpConverter(2));
+        assertTrue(converter instanceof CompositeConverter);
+        assertEquals(3, converter.getConversionSteps().size());
+        assertSame(converter.getConversionSteps(), converter.getConversionSteps());
+        assertEquals(Math.log10(Math.pow(2, 30) / 3), converter.convert(30d), 1e-12);
+        assertEquals(30d, converter.inverse().convert(converter.convert(30d)), 1e-12);
+        assertEquals(Math.log10(32d / 3), converter.convert((Number) 5).doubleValue(), 1e-12);
+    }
+
+}
@@ -0,0 +1,82 @@
+package org.xpertss.unit.converters;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import xpertss.measure.UnitConverter;
+
+import java.util.concurrent.TimeUnit;
+
+import static xpertss.measure.MetricPrefix.KILO;
+import static xpertss.measure.ucum.Base.DEGREE;
+import static xpertss.measure.ucum.Base.METRE;
+import static xpertss.measure.ucum.Base.RADIAN;
+import static xpertss.measure.ucum.SI.CELSIUS;
+import static xpertss.measure.ucum.customary.Legacy.FAHRENHEIT;
+
+/**
+ * Measures composing converters with the composition memo disabled, that is the cost of
+ * reducing to normal-form. Run {@link #main} from the test class path after
+ * {@code mvn test-compile}, the GC profiler reports the allocation per composition.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-D" + ConverterCompositionHandler.MEMO_CAPACITY_PROPERTY + "=0")
+public class CompositionBenchmark {
+
+    private AbstractConverter scale;
+    private AbstractConverter affine;
+    private AbstractConverter pi;
+    private AbstractConverter log;
+
+    @Setup
+    public void setup()
+    {
+        // Base has to be initialized ahead of SI
+        scale = (AbstractConverter) KILO(METRE).getConverterTo(METRE);
+        affine = (AbstractConverter) CELSIUS.getConverterTo(FAHRENHEIT);
+        pi = (AbstractConverter) DEGREE.getConverterTo(RADIAN);
+        log = new LogConverter(10);
+    }
+
+    @Benchmark
+    public UnitConverter linear()
+    {
+        return pi.concatenate(scale);
+    }
+
+    @Benchmark
+    public UnitConverter affine()
+    {
+        return affine.concatenate(scale);
+    }
+
+    @Benchmark
+    public UnitConverter nonLinear()
+    {
+        return log.concatenate(pi);
+    }
+
+    public static void main(String[] args) throws RunnerException
+    {
+        new Runner(new OptionsBuilder()
+                .include(CompositionBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+
+}
@@ -0,0 +1,72 @@
+package org.xpertss.unit.converters;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.xpertss.unit.math.RationalNumber;
+import xpertss.measure.UnitConverter;
+
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+import static xpertss.measure.ucum.Base.DEGREE;
+import static xpertss.measure.ucum.Base.RADIAN;
+
+/**
+ * Converts with converters and numbers shared by all threads, the throughput per thread
+ * should stay flat as the number of threads grows. Run {@link #main} from the test class
+ * path after {@code mvn test-compile}, it measures with 1, 2, 4 and all available threads.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ContendedConversionBenchmark {
+
+    private UnitConverter degreeToRadian;
+    private RationalNumber factor;
+
+    @Setup
+    public void setup()
+    {
+        degreeToRadian = DEGREE.getConverterTo(RADIAN);
+        factor = RationalNumber.of(BigInteger.TEN.pow(30), BigInteger.valueOf(7));
+    }
+
+    @Benchmark
+    public Number degreeToRadian()
+    {
+        return degreeToRadian.convert((Number) 90);
+    }
+
+    @Benchmark
+    public double rationalValue()
+    {
+        return factor.doubleValue() + factor.longValue();
+    }
+
+    public static void main(String[] args) throws RunnerException
+    {
+        final int cores = Runtime.getRuntime().availableProcessors();
+        for(int threads : new int[] { 1, 2, 4, cores }) {
+            if(threads > cores) continue;
+            new Runner(new OptionsBuilder()
+                    .include(ContendedConversionBenchmark.class.getSimpleName())
+                    .threads(threads)
+                    .build()).run();
+        }
+    }
+
+}
@@ -0,0 +1,54 @@
+package org.xpertss.unit.converters;
+
+import org.junit.jupiter.api.Test;
+import org.xpertss.unit.math.RationalNumber;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ContendedConversionTest {
+
+    private static final int THREADS = Math.max(4, Runtime.getRuntime().availableProcessors());
+    private static final int ROUNDS = 200;
+
+    @Test
+    public void testLazyValuesUnderContention() throws Exception
+    {
+        final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for(int round = 0; round < ROUNDS; round++) {
+                // fresh instances, so that all threads race on their first use
+                final PowerOfPiConverter pi = PowerOfPiConverter.of(1);
+                final RationalNumber factor = RationalNumber.of(BigInteger.TEN.pow(18), BigInteger.valueOf(7));
+                final CountDownLatch start = new CountDownLatch(1);
+                final List<Future<List<Object>>> results = new ArrayList<>();
+                for(int i = 0; i < THREADS; i++) {
+                    results.add(executor.submit(() -> {
+                        start.await();
+                        // degree to radian
+                        final Number radian = MultiplyConverter.ofRational(1, 180).convert(pi.convert((Number) 90));
+                        return Arrays.<Object>asList(radian, pi.getValue(), factor.bigDecimalValue(), factor.longValue());
+                    }));
+                }
+                start.countDown();
+                final List<Object> expected = results.get(0).get();
+                assertEquals(Math.PI / 2, ((Number) expected.get(0)).doubleValue(), 1e-15);
+                assertEquals(142857142857142857L, expected.get(3));
+                for(Future<List<Object>> result : results) {
+                    assertEquals(expected, result.get());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
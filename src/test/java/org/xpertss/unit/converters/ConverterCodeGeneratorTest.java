@@ -0,0 +1,53 @@
+package org.xpertss.unit.converters;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import xpertss.measure.UnitConverter;
+
+import java.util.function.DoubleUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class ConverterCodeGeneratorTest {
+
+    @BeforeEach
+    public void requireHiddenClasses()
+    {
+        assumeTrue(ConverterCodeGenerator.isAvailable(), "hidden classes require Java 15 or later");
+    }
+
+    @Test
+    public void testLogarithmicChain()
+    {
+        UnitConverter converter = new LogConverter(10).concatenate(MultiplyConverter.ofRational(1, 10));
+        DoubleUnaryOperator operator = ConverterCodeGenerator.generate(converter.getConversionSteps());
+        assertNotNull(operator);
+        assertEquals(2d, operator.applyAsDouble(1000), 1e-12);
+        assertEquals(converter.convert(42.5), operator.applyAsDouble(42.5), 1e-12);
+    }
+
+    @Test
+    public void testExponentialChain()
+    {
+        UnitConverter converter = MultiplyConverter.of(3.5)
+                .concatenate(new ExpConverter(10))
+                .concatenate(new AddConverter(2))
+                .concatenate(MultiplyConverter.ofRational(1, 10));
+        DoubleUnaryOperator operator = ConverterCodeGenerator.generate(converter.getConversionSteps());
+        assertNotNull(operator);
+        for(double x : new double[] { -3, 0, 0.25, 1.5 }) {
+            assertEquals(converter.convert(x), operator.applyAsDouble(x), Math.ulp(converter.convert(x)) * 4);
+        }
+    }
+
+    @Test
+    public void testPowerOfPiChain()
+    {
+        UnitConverter converter = new LogConverter(10).concatenate(PowerOfPiConverter.of(2));
+        DoubleUnaryOperator operator = ConverterCodeGenerator.generate(converter.getConversionSteps());
+        assertNotNull(operator);
+        assertEquals(converter.convert(7.0), operator.applyAsDouble(7.0), 1e-12);
+    }
+
+}
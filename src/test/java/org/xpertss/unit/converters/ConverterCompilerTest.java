@@ -0,0 +1,50 @@
+package org.xpertss.unit.converters;
+
+import org.junit.jupiter.api.Test;
+import xpertss.measure.UnitConverter;
+
+import java.util.function.DoubleUnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static xpertss.measure.MetricPrefix.KILO;
+import static xpertss.measure.ucum.Base.*;
+import static xpertss.measure.ucum.SI.CELSIUS;
+import static xpertss.measure.ucum.customary.Legacy.FAHRENHEIT;
+
+class ConverterCompilerTest {
+
+    @Test
+    public void testCelsiusToFahrenheit()
+    {
+        UnitConverter converter = CELSIUS.getConverterTo(FAHRENHEIT);
+        DoubleUnaryOperator operator = converter.toDoubleOperator();
+        assertEquals(212d, operator.applyAsDouble(100), 1e-9);
+        assertEquals(32d, operator.applyAsDouble(0), 1e-9);
+        assertEquals(converter.convert(37.5), operator.applyAsDouble(37.5), 1e-9);
+    }
+
+    @Test
+    public void testMultiplyChain()
+    {
+        UnitConverter converter = KILO(METRE).getConverterTo(METRE);
+        assertEquals(1500d, converter.toDoubleOperator().applyAsDouble(1.5), 0d);
+        assertSame(converter.toDoubleOperator(), converter.toDoubleOperator());
+    }
+
+    @Test
+    public void testLogarithmicChain()
+    {
+        UnitConverter converter = new LogConverter(10).concatenate(MultiplyConverter.ofRational(1, 10));
+        DoubleUnaryOperator operator = converter.toDoubleOperator();
+        assertEquals(converter.convert((Number) 1000).doubleValue(), operator.applyAsDouble(1000), 1e-12);
+        assertEquals(2d, operator.applyAsDouble(1000), 1e-12);
+    }
+
+    @Test
+    public void testIdentity()
+    {
+        assertEquals(4.2d, AbstractConverter.IDENTITY.toDoubleOperator().applyAsDouble(4.2), 0d);
+        assertEquals(4.2d, MultiplyConverter.identity().toDoubleOperator().applyAsDouble(4.2), 0d);
+    }
+
+}
@@ -0,0 +1,79 @@
+package org.xpertss.unit.converters;
+
+import org.junit.jupiter.api.Test;
+import org.xpertss.unit.math.DoubleNumberSystem;
+import org.xpertss.unit.math.NumberSystems;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiPredicate;
+import java.util.function.BinaryOperator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConverterCompositionHandlerTest {
+
+    private final AbstractConverter third = (AbstractConverter) MultiplyConverter.ofRational(1, 3);
+    private final AbstractConverter log = new LogConverter(10);
+
+    @Test
+    public void testMemoized()
+    {
+        ConverterCompositionHandler handler = new ConverterCompositionHandler();
+        AbstractConverter first = handler.compose(log, third);
+        assertEquals(1, handler.memoSize());
+        assertSame(first, handler.compose(log, third));
+        assertEquals(1, handler.memoSize());
+        assertEquals(Math.log10(10), first.convert(30d), 1e-12);
+    }
+
+    @Test
+    public void testNotMemoizedWithinScope()
+    {
+        ConverterCompositionHandler handler = new ConverterCompositionHandler();
+        try(NumberSystems.Scope scope = NumberSystems.use(new DoubleNumberSystem())) {
+            AbstractConverter first = handler.compose(log, third);
+            assertSame(first, handler.compose(log, third));
+            assertEquals(0, handler.memoSize());
+        }
+        handler.compose(log, third);
+        assertEquals(1, handler.memoSize());
+    }
+
+    @Test
+    public void testMemoDisabled()
+    {
+        ConverterCompositionHandler handler;
+        System.setProperty(ConverterCompositionHandler.MEMO_CAPACITY_PROPERTY, "0");
+        try {
+            handler = new ConverterCompositionHandler();
+        } finally {
+            System.clearProperty(ConverterCompositionHandler.MEMO_CAPACITY_PROPERTY);
+        }
+        AbstractConverter first = handler.compose(log, third);
+        assertSame(first, handler.compose(log, third));
+        assertEquals(0, handler.memoSize());
+    }
+
+    @Test
+    public void testPluggableOverloadIsReached()
+    {
+        final AtomicInteger calls = new AtomicInteger();
+        ConverterCompositionHandler handler = new ConverterCompositionHandler() {
+            @Override
+            public AbstractConverter compose(AbstractConverter left, AbstractConverter right,
+                                             BiPredicate<AbstractConverter, AbstractConverter> canReduce,
+                                             BinaryOperator<AbstractConverter> doReduce)
+            {
+                calls.incrementAndGet();
+                return super.compose(left, right, canReduce, doReduce);
+            }
+        };
+        AbstractConverter first = handler.compose(log, third);
+        assertEquals(1, calls.get());
+        assertEquals(1, handler.memoSize());
+        // custom reductions are interned but not memoized
+        assertSame(first, handler.compose(log, third, (a, b) -> a.canReduceWith(b), (a, b) -> a.reduce(b)));
+        assertEquals(1, handler.memoSize());
+    }
+
+}
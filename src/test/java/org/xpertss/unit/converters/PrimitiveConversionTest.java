@@ -0,0 +1,155 @@
+package org.xpertss.unit.converters;
+
+import org.junit.jupiter.api.Test;
+import org.xpertss.unit.math.RationalNumber;
+import xpertss.measure.BinaryPrefix;
+import xpertss.measure.UnitConverter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static xpertss.measure.BinaryPrefix.KIBI;
+import static xpertss.measure.MetricPrefix.KILO;
+import static xpertss.measure.MetricPrefix.MILLI;
+import static xpertss.measure.ucum.Base.*;
+import static xpertss.measure.ucum.SI.CELSIUS;
+import static xpertss.measure.ucum.customary.IT.BYTE;
+
+class PrimitiveConversionTest {
+
+    @Test
+    public void testDoubleMatchesNumber()
+    {
+        UnitConverter converter = MILLI(METRE).getConverterTo(KILO(METRE));
+        assertEquals(converter.convert((Number) 1234.5).doubleValue(), converter.convert(1234.5), 1e-15);
+        converter = KELVIN.getConverterTo(CELSIUS);
+        assertEquals(converter.convert((Number) 300.0).doubleValue(), converter.convert(300.0), 1e-12);
+    }
+
+    @Test
+    public void testDoubleNearOverflow()
+    {
+        UnitConverter converter = MultiplyConverter.ofRational(254, 10000);
+        assertEquals(1e307 * 0.0254, converter.convert(1e307), 1e293);
+        assertEquals(Double.MAX_VALUE * 0.0254, converter.convert(Double.MAX_VALUE), 1e294);
+        double[] values = { 1e307, -Double.MAX_VALUE };
+        converter.convert(values, 0, values, 0, values.length);
+        assertEquals(1e307 * 0.0254, values[0], 1e293);
+        assertEquals(-Double.MAX_VALUE * 0.0254, values[1], 1e294);
+    }
+
+    @Test
+    public void testLongRounding()
+    {
+        UnitConverter converter = MultiplyConverter.ofRational(1, 2);
+        assertEquals(2L, converter.convertToLong(3L));
+        assertEquals(-1L, converter.convertToLong(-3L));
+        assertEquals(Long.MAX_VALUE / 2 + 1, converter.convertToLong(Long.MAX_VALUE));
+        assertEquals(3000L, KILO(METRE).getConverterTo(METRE).convertToLong(3L));
+    }
+
+    @Test
+    public void testIntegralArgumentsConvertExactly()
+    {
+        UnitConverter converter = METRE.getConverterTo(KILO(METRE));
+        assertEquals(0, RationalNumber.of(3, 1000).compareTo((RationalNumber) converter.convert(3)));
+        assertEquals(0.003, converter.convert(3).doubleValue(), 0d);
+        assertEquals(0.003, converter.convert(3L).doubleValue(), 0d);
+        assertEquals(0L, converter.convertToLong(3L));
+    }
+
+    @Test
+    public void testLongCompositeBeyondDoublePrecision()
+    {
+        AbstractConverter[] steps = { PowerOfIntConverter.of(2, 10), PowerOfIntConverter.of(10, -3) };
+        for(UnitConverter composite : new UnitConverter[] { CompositeConverter.of(steps), new ConverterPair(steps[0], steps[1]) }) {
+            assertEquals(1024000000000000001L, composite.convertToLong(1000000000000000001L));
+            long[] values = { 1000000000000000001L, -1000L };
+            composite.convert(values, 0, values, 0, values.length);
+            assertArrayEquals(new long[] { 1024000000000000001L, -1024L }, values);
+        }
+    }
+
+    @Test
+    public void testLongOverflow()
+    {
+        UnitConverter converter = KILO(METRE).getConverterTo(METRE);
+        assertThrows(ArithmeticException.class, () -> converter.convertToLong(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testBulkMatchesScalar()
+    {
+        UnitConverter converter = CELSIUS.getConverterTo(MILLI(KELVIN));
+        double[] src = { -40, 0, 21.5, 100 };
+        double[] dst = new double[6];
+        converter.convert(src, 0, dst, 1, src.length);
+        assertEquals(0d, dst[0], 0d);
+        for(int i = 0; i < src.length; i++) {
+            assertEquals(converter.convert(src[i]), dst[i + 1], 0d);
+        }
+        assertEquals(0d, dst[5], 0d);
+
+        long[] longs = { 1, 2, 3 };
+        KILO(METRE).getConverterTo(METRE).convert(longs, 0, longs, 0, longs.length);
+        assertArrayEquals(new long[] { 1000, 2000, 3000 }, longs);
+    }
+
+    @Test
+    public void testBulkOverlap()
+    {
+        UnitConverter converter = KILO(METRE).getConverterTo(METRE);
+        double[] values = { 1, 2, 3, 4, 0 };
+        converter.convert(values, 0, values, 1, 4);
+        assertArrayEquals(new double[] { 1, 1000, 2000, 3000, 4000 }, values, 0d);
+        assertThrows(IndexOutOfBoundsException.class, () -> converter.convert(values, 2, values, 0, 4));
+    }
+
+    @Test
+    public void testExact()
+    {
+        assertEquals(3000L, KILO(METRE).getConverterTo(METRE).convertExact(3L));
+        assertEquals(3L, METRE.getConverterTo(KILO(METRE)).convertExact(3000L));
+        assertThrows(ArithmeticException.class, () -> METRE.getConverterTo(KILO(METRE)).convertExact(3001L));
+        assertThrows(ArithmeticException.class, () -> KILO(METRE).getConverterTo(METRE).convertExact(Long.MAX_VALUE));
+        assertThrows(ArithmeticException.class, () -> CELSIUS.getConverterTo(KELVIN).convertExact(1L));
+        assertEquals(5120L, PowerOfIntConverter.of(2, 10).convertExact(5L));
+        assertEquals(-5L, PowerOfIntConverter.of(2, -10).convertExact(-5120L));
+        assertThrows(ArithmeticException.class, () -> PowerOfIntConverter.of(2, -10).convertExact(5121L));
+        assertThrows(ArithmeticException.class, () -> PowerOfIntConverter.of(2, 62).convertExact(2L));
+        assertEquals(-(1L << 62), PowerOfIntConverter.of(2, 62).convertExact(-1L));
+        // 2^10 o 10^-3, only the whole result is integer
+        UnitConverter kibiToKilo = KIBI(BYTE).getConverterTo(KILO(BYTE));
+        assertEquals(512L, kibiToKilo.convertExact(500L));
+        assertEquals(kibiToKilo.convert((Number) 500L).longValue(), kibiToKilo.convertExact(500L));
+        assertThrows(ArithmeticException.class, () -> kibiToKilo.convertExact(501L));
+        assertEquals(1024L, MILLI(BYTE).getConverterTo(KIBI(BYTE)).convertExact(1048576000L));
+        AbstractConverter[] steps = { PowerOfIntConverter.of(2, 10), PowerOfIntConverter.of(10, -3) };
+        for(UnitConverter composite : new UnitConverter[] { CompositeConverter.of(steps), new ConverterPair(steps[0], steps[1]) }) {
+            assertEquals(512L, composite.convertExact(500L));
+            assertThrows(ArithmeticException.class, () -> composite.convertExact(501L));
+        }
+    }
+
+    @Test
+    public void testBinaryPrefix()
+    {
+        UnitConverter kibi = MultiplyConverter.ofPrefix(BinaryPrefix.KIBI);
+        assertEquals(PowerOfIntConverter.of(2, 10), kibi);
+        assertEquals(PowerOfIntConverter.of(2, 30), MultiplyConverter.ofPrefix(BinaryPrefix.MEBI).concatenate(kibi));
+        assertEquals(3072L, kibi.convertToLong(3L));
+        assertEquals(3072, kibi.convert((Number) 3));
+        assertEquals(1.5 * 1024, kibi.convert(1.5), 0d);
+        UnitConverter inverse = kibi.inverse();
+        assertEquals(2L, inverse.convertToLong(1536L));
+        assertEquals(1L, inverse.convertToLong(1535L));
+        assertEquals(-1L, inverse.convertToLong(-1536L));
+        assertEquals(RationalNumber.of(3, 2), inverse.convert((Number) 1536));
+
+        UnitConverter tiny = PowerOfIntConverter.of(2, -1074);
+        double[] values = { 0x1p1000, Double.MAX_VALUE };
+        double[] expected = { tiny.convert(values[0]), tiny.convert(values[1]) };
+        tiny.convert(values, 0, values, 0, values.length);
+        assertArrayEquals(expected, values, 0d);
+        assertEquals(0x1p-74, values[0], 0d);
+    }
+
+}
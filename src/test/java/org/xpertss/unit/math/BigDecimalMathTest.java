@@ -0,0 +1,57 @@
+package org.xpertss.unit.math;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BigDecimalMathTest {
+
+    private static final MathContext MC = MathContext.DECIMAL128;
+
+    @Test
+    public void testExp()
+    {
+        assertEquals(new BigDecimal("2.718281828459045235360287471352662"), BigDecimalMath.exp(BigDecimal.ONE, MC));
+        assertEquals(new BigDecimal("0.3678794411714423215955237701614609"), BigDecimalMath.exp(BigDecimal.ONE.negate(), MC));
+        assertEquals(0, new BigDecimal("1024").compareTo(
+                BigDecimalMath.exp(new BigDecimal("10").multiply(BigDecimalMath.log(BigDecimal.valueOf(2), MC)), new MathContext(30))));
+        assertThrows(ArithmeticException.class, () -> BigDecimalMath.exp(new BigDecimal("1e12"), MC));
+    }
+
+    @Test
+    public void testLog()
+    {
+        assertEquals(new BigDecimal("2.302585092994045684017991454684364"), BigDecimalMath.log(BigDecimal.TEN, MC));
+        assertEquals(new BigDecimal("0.6931471805599453094172321214581766"), BigDecimalMath.log(BigDecimal.valueOf(2), MC));
+        assertEquals(new BigDecimal("-69.07755278982137052053974364053093"), BigDecimalMath.log(new BigDecimal("1e-30"), MC));
+        // close to one, the relative precision is kept
+        assertEquals(new BigDecimal("9.999999999999999999950000000000000E-21"),
+                        BigDecimalMath.log(new BigDecimal("1.00000000000000000001"), MC));
+        assertThrows(ArithmeticException.class, () -> BigDecimalMath.log(BigDecimal.ZERO, MC));
+    }
+
+    @Test
+    public void testRoundTrip()
+    {
+        for(String value : new String[] { "0.001", "0.5", "3.75", "12345.678", "1e40" }) {
+            final BigDecimal x = new BigDecimal(value);
+            final BigDecimal y = BigDecimalMath.exp(BigDecimalMath.log(x, MC), MC);
+            assertTrue(x.subtract(y).abs().compareTo(x.movePointLeft(31)) < 0, value + " != " + y);
+        }
+    }
+
+    @Test
+    public void testNumberSystem()
+    {
+        final DefaultNumberSystem ns = new DefaultNumberSystem(new MathContext(50));
+        assertEquals(new BigDecimal("2.7182818284590452353602874713526624977572470937000"), ns.exp(1));
+        assertEquals(1, ns.exp(0));
+        assertEquals(0, ns.log(RationalNumber.ONE));
+        assertSame(ns.logOfBase(10d), ns.logOfBase(10d));
+        assertEquals(Math.log(2), ns.log(2d));
+    }
+
+}
@@ -0,0 +1,43 @@
+package org.xpertss.unit.math;
+
+import org.junit.jupiter.api.Test;
+import xpertss.measure.UnitConverter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static xpertss.measure.MetricPrefix.KILO;
+import static xpertss.measure.ucum.Base.METRE;
+import static xpertss.measure.ucum.SI.CELSIUS;
+import static xpertss.measure.ucum.customary.Legacy.FAHRENHEIT;
+
+class DoubleNumberSystemTest {
+
+    @Test
+    public void testArithmetic()
+    {
+        final NumberSystem ns = new DoubleNumberSystem();
+        assertEquals(0.30000000000000004, ns.add(0.1, 0.2));
+        assertEquals(2.5, ns.divide(5, 2));
+        assertEquals(0.5, ns.multiply(RationalNumber.of(1, 3), 1.5));
+        assertEquals(3.0, ns.narrow(3));
+        Number[] divAndRemainder = ns.divideAndRemainder(-7, 2, false);
+        assertEquals(-3.0, divAndRemainder[0]);
+        assertEquals(-1.0, divAndRemainder[1]);
+        assertTrue(ns.isInteger(4.0));
+        assertFalse(ns.isInteger(Double.POSITIVE_INFINITY));
+        assertThrows(ArithmeticException.class, () -> ns.power(0, 0));
+    }
+
+    @Test
+    public void testConversion()
+    {
+        final UnitConverter scale = KILO(METRE).getConverterTo(METRE);
+        final UnitConverter affine = CELSIUS.getConverterTo(FAHRENHEIT);
+        try(NumberSystems.Scope scope = NumberSystems.use(new DoubleNumberSystem())) {
+            assertEquals(1500.0, scale.convert((Number) 1.5));
+            assertEquals(3000.0, scale.convert((Number) 3));
+            assertEquals(212.0, affine.convert((Number) 100));
+            assertEquals(1500.0, Calculator.of(1.5).multiply(1000).peek());
+        }
+    }
+
+}
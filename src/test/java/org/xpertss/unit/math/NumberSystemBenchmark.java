@@ -0,0 +1,103 @@
+package org.xpertss.unit.math;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import xpertss.measure.UnitConverter;
+
+import java.util.concurrent.TimeUnit;
+
+import static xpertss.measure.MetricPrefix.KILO;
+import static xpertss.measure.ucum.Base.METRE;
+import static xpertss.measure.ucum.SI.CELSIUS;
+import static xpertss.measure.ucum.customary.Legacy.FAHRENHEIT;
+
+/**
+ * Compares {@link Calculator} chains and {@link Number} conversions within the
+ * {@link DefaultNumberSystem} against the {@link DoubleNumberSystem}. Run {@link #main}
+ * from the test class path after {@code mvn test-compile}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class NumberSystemBenchmark {
+
+    @Param({ "default", "double" })
+    public String numberSystem;
+
+    private NumberSystems.Scope scope;
+    private UnitConverter scale;
+    private UnitConverter affine;
+    private Number value = 37.5;
+    private Number integer = 42;
+
+    @Setup
+    public void setup()
+    {
+        // Base has to be initialized ahead of SI
+        scale = KILO(METRE).getConverterTo(METRE);
+        affine = CELSIUS.getConverterTo(FAHRENHEIT);
+        // both run within a scope, so that they pay the same for looking up the number system
+        scope = NumberSystems.use("double".equals(numberSystem) ? new DoubleNumberSystem() : DefaultNumberSystem.INSTANCE);
+    }
+
+    @TearDown
+    public void tearDown()
+    {
+        scope.close();
+    }
+
+    @Benchmark
+    public Number calculatorChain()
+    {
+        return Calculator.of(value)
+                .multiply(1.8)
+                .add(32)
+                .divide(integer)
+                .peek();
+    }
+
+    @Benchmark
+    public Number calculatorIntegers()
+    {
+        return Calculator.of(integer)
+                .multiply(1000)
+                .add(integer)
+                .peek();
+    }
+
+    @Benchmark
+    public Number convertScale()
+    {
+        return scale.convert(value);
+    }
+
+    @Benchmark
+    public Number convertAffine()
+    {
+        return affine.convert(value);
+    }
+
+    public static void main(String[] args) throws RunnerException
+    {
+        new Runner(new OptionsBuilder()
+                .include(NumberSystemBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+
+}
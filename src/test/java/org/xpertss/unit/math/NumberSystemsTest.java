@@ -0,0 +1,60 @@
+package org.xpertss.unit.math;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NumberSystemsTest {
+
+    @Test
+    public void testDefault()
+    {
+        assertSame(DefaultNumberSystem.INSTANCE, NumberSystems.getDefault());
+        assertSame(NumberSystems.getDefault(), NumberSystem.current());
+        assertTrue(NumberSystems.isDefault());
+    }
+
+    @Test
+    public void testScope()
+    {
+        final NumberSystem precise = new DefaultNumberSystem(new MathContext(50));
+        final NumberSystem coarse = new DefaultNumberSystem(new MathContext(10));
+        try(NumberSystems.Scope outer = NumberSystems.use(precise)) {
+            assertSame(precise, NumberSystem.current());
+            assertFalse(NumberSystems.isDefault());
+            assertEquals(new BigDecimal("2.7182818284590452353602874713526624977572470937000"),
+                            Calculator.of(1).exp().peek());
+            try(NumberSystems.Scope inner = NumberSystems.use(coarse)) {
+                assertEquals(new BigDecimal("2.718281828"), Calculator.of(1).exp().peek());
+            }
+            assertSame(precise, NumberSystem.current());
+        }
+        assertSame(NumberSystems.getDefault(), NumberSystem.current());
+    }
+
+    @Test
+    public void testScopeIsThreadLocal() throws InterruptedException
+    {
+        final NumberSystem[] seen = new NumberSystem[1];
+        try(NumberSystems.Scope scope = NumberSystems.use(new DefaultNumberSystem())) {
+            final Thread thread = new Thread(() -> seen[0] = NumberSystem.current());
+            thread.start();
+            thread.join();
+        }
+        assertSame(NumberSystems.getDefault(), seen[0]);
+    }
+
+    @Test
+    public void testSelectionByProperty()
+    {
+        assertSame(DefaultNumberSystem.INSTANCE, NumberSystems.load(null));
+        assertSame(DefaultNumberSystem.INSTANCE, NumberSystems.load(DefaultNumberSystem.class.getName()));
+        assertTrue(NumberSystems.load(DoubleNumberSystem.class.getName()) instanceof DoubleNumberSystem);
+        assertThrows(IllegalStateException.class, () -> NumberSystems.load("org.xpertss.unit.math.NoSuchNumberSystem"));
+        assertThrows(IllegalStateException.class, () -> NumberSystems.load(String.class.getName()));
+    }
+
+}
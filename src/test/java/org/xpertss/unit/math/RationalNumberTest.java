@@ -0,0 +1,38 @@
+package org.xpertss.unit.math;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RationalNumberTest {
+
+    @Test
+    public void testLongArithmetic()
+    {
+        RationalNumber kmh = RationalNumber.of(5, 18);
+        assertTrue(kmh.isLong());
+        assertEquals(RationalNumber.of(25, 324), kmh.multiply(kmh));
+        assertEquals(RationalNumber.of(5, 9), kmh.add(kmh));
+        assertEquals(RationalNumber.of(-18, 5), kmh.negate().reciprocal());
+        assertEquals(RationalNumber.of(324, 25), kmh.pow(-2));
+        assertEquals(RationalNumber.of(BigInteger.valueOf(10), BigInteger.valueOf(36)), kmh);
+        assertTrue(kmh.compareTo(RationalNumber.of(1, 3)) < 0);
+    }
+
+    @Test
+    public void testOverflowPromotesToBigInteger()
+    {
+        RationalNumber big = RationalNumber.ofInteger(Long.MAX_VALUE);
+        RationalNumber product = big.multiply(big);
+        assertFalse(product.isLong());
+        assertEquals(BigInteger.valueOf(Long.MAX_VALUE).pow(2), product.getDividend());
+        RationalNumber quotient = product.divide(big);
+        assertTrue(quotient.isLong());
+        assertEquals(big, quotient);
+        assertEquals(big.hashCode(), quotient.hashCode());
+        assertEquals(Long.MIN_VALUE, RationalNumber.ofInteger(Long.MIN_VALUE).longValue());
+    }
+
+}
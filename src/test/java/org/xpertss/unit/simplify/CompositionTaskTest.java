@@ -0,0 +1,76 @@
+package org.xpertss.unit.simplify;
+
+import org.junit.jupiter.api.Test;
+import org.xpertss.unit.converters.AbstractConverter;
+import org.xpertss.unit.converters.ExpConverter;
+import org.xpertss.unit.converters.LogConverter;
+import org.xpertss.unit.converters.MultiplyConverter;
+import org.xpertss.unit.converters.PowerOfIntConverter;
+import org.xpertss.unit.converters.RationalConverter;
+import xpertss.measure.MetricPrefix;
+import xpertss.measure.UnitConverter;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompositionTaskTest {
+
+    private final AbstractConverter log = new LogConverter(10);
+    private final AbstractConverter exp = new ExpConverter(10);
+    private final AbstractConverter kilo = (AbstractConverter) MultiplyConverter.ofPrefix(MetricPrefix.KILO);
+    private final AbstractConverter two = (AbstractConverter) MultiplyConverter.ofRational(2, 1);
+    private final AbstractConverter three = (AbstractConverter) MultiplyConverter.ofRational(3, 1);
+    private final AbstractConverter six = (AbstractConverter) MultiplyConverter.ofRational(6, 1);
+
+    // powers of int first, then rationals, then anything else
+    private static int rank(AbstractConverter converter)
+    {
+        if(converter instanceof PowerOfIntConverter) return 0;
+        if(converter instanceof RationalConverter) return 1;
+        return 2;
+    }
+
+    // reductions concatenate, hence compose converters within the composition
+    private final CompositionTask task = new CompositionTask(
+            (a, b) -> rank(a) <= rank(b),
+            (a, b) -> rank(a) <= rank(b),
+            (a, b) -> (a instanceof RationalConverter && b instanceof RationalConverter)
+                        || (a instanceof LogConverter && b instanceof ExpConverter),
+            (a, b) -> (AbstractConverter) a.concatenate(b));
+
+    @Test
+    public void testLinearRunBetweenNonLinearSteps()
+    {
+        AbstractConverter result = task.reduceToNormalForm(Arrays.asList(log, two, kilo, three, exp));
+        assertEquals(Arrays.asList(log, kilo, six, exp), result.getConversionSteps());
+        assertEquals(Math.log10(6000 * Math.pow(10, 0.5)), result.convert(0.5), 1e-12);
+    }
+
+    @Test
+    public void testReductionOfTrailingStep()
+    {
+        AbstractConverter result = task.reduceToNormalForm(Arrays.asList(two, log), Arrays.asList(exp, three));
+        assertEquals(six, result);
+        assertEquals(30d, result.convert(5d), 0d);
+    }
+
+    @Test
+    public void testIdentity()
+    {
+        assertTrue(task.reduceToNormalForm(Arrays.asList(log, exp)).isIdentity());
+        assertTrue(task.reduceToNormalForm(Arrays.<UnitConverter>asList()).isIdentity());
+    }
+
+    @Test
+    public void testBufferGrowsAndIsReusable()
+    {
+        UnitConverter[] steps = new UnitConverter[40];
+        for(int i = 0; i < steps.length; i++) {
+            steps[i] = (i % 2 == 0) ? log : kilo;
+        }
+        assertEquals(40, task.reduceToNormalForm(Arrays.asList(steps)).getConversionSteps().size());
+        assertEquals(Arrays.asList(kilo, six), task.reduceToNormalForm(Arrays.asList(two, kilo, three)).getConversionSteps());
+    }
+
+}
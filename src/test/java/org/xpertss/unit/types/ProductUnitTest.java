@@ -0,0 +1,83 @@
+package org.xpertss.unit.types;
+
+import org.junit.jupiter.api.Test;
+import xpertss.measure.Dimension;
+import xpertss.measure.Unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static xpertss.measure.MetricPrefix.KILO;
+import static xpertss.measure.ucum.Base.*;
+
+class ProductUnitTest {
+
+    @Test
+    public void testEqualsRegardlessOfOrder()
+    {
+        Unit<?> ms = METRE.multiply(SECOND);
+        Unit<?> sm = SECOND.multiply(METRE);
+        assertEquals(ms, sm);
+        assertEquals(ms.hashCode(), sm.hashCode());
+        assertNotEquals(ms.hashCode(), METRE.divide(SECOND).hashCode());
+    }
+
+    @Test
+    public void testDerivedValuesAreCached()
+    {
+        Unit<?> speed = KILO(METRE).divide(SECOND);
+        assertSame(speed.getSystemUnit(), speed.getSystemUnit());
+        assertSame(speed.toSystemUnit(), speed.toSystemUnit());
+        assertSame(speed.getDimension(), speed.getDimension());
+        assertSame(speed.getBaseUnits(), speed.getBaseUnits());
+        assertEquals(METRE.divide(SECOND), speed.getSystemUnit());
+        assertEquals(Dimension.LENGTH.divide(Dimension.TIME), speed.getDimension());
+        assertEquals(1500d, speed.toSystemUnit().convert(1.5), 0d);
+        assertThrows(UnsupportedOperationException.class, () -> speed.getBaseUnits().clear());
+    }
+
+    @Test
+    public void testInterned()
+    {
+        assertSame(METRE.divide(SECOND), METRE.divide(SECOND));
+        assertSame(SECOND.multiply(METRE), SECOND.multiply(METRE));
+        assertEquals(METRE.multiply(SECOND), SECOND.multiply(METRE));
+        assertSame(METRE.pow(2), METRE.multiply(METRE));
+        assertSame(METRE.divide(SECOND).getSystemUnit(), METRE.divide(SECOND));
+    }
+
+    @Test
+    public void testElementOrder()
+    {
+        ProductUnit<?> force = (ProductUnit<?>) KILO(GRAM).multiply(METRE).divide(SECOND.pow(2));
+        assertEquals(3, force.getUnitCount());
+        assertEquals(KILO(GRAM), force.getUnit(0));
+        assertEquals(METRE, force.getUnit(1));
+        assertEquals(SECOND, force.getUnit(2));
+        assertEquals(1, force.getUnitPow(0));
+        assertEquals(-2, force.getUnitPow(2));
+        ProductUnit<?> sm = (ProductUnit<?>) SECOND.multiply(METRE);
+        assertEquals(SECOND, sm.getUnit(0));
+        assertEquals(METRE, sm.getUnit(1));
+        ProductUnit<?> ms = (ProductUnit<?>) METRE.multiply(SECOND);
+        assertEquals(METRE, ms.getUnit(0));
+        assertEquals(SECOND, ms.getUnit(1));
+        // cancelled elements are dropped, the others keep their order
+        ProductUnit<?> ks = (ProductUnit<?>) force.divide(METRE);
+        assertEquals(KILO(GRAM), ks.getUnit(0));
+        assertEquals(SECOND, ks.getUnit(1));
+    }
+
+    @Test
+    public void testAlgebra()
+    {
+        Unit<?> speed = METRE.divide(SECOND);
+        assertSame(METRE, speed.multiply(SECOND));
+        assertSame(METRE, METRE.multiply(SECOND).divide(SECOND));
+        assertSame(METRE, METRE.pow(2).root(2));
+        assertSame(Unit.ONE, speed.divide(speed));
+        assertSame(Unit.ONE, speed.pow(0));
+        ProductUnit<?> product = (ProductUnit<?>) speed.pow(2).multiply(GRAM).root(2);
+        assertEquals(3, product.getUnitCount());
+        assertEquals(METRE.multiply(GRAM.root(2)).divide(SECOND), product);
+    }
+
+}
@@ -0,0 +1,36 @@
+package org.xpertss.unit.utils;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoundedCacheTest {
+
+    @Test
+    public void testHitsAndMisses()
+    {
+        BoundedCache<String, Integer> cache = new BoundedCache<>(4);
+        assertNull(cache.get("a"));
+        assertEquals(1, cache.put("a", 1));
+        assertEquals(1, cache.put("a", 2)); // first published wins
+        assertEquals(1, cache.get("a"));
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    public void testSecondChanceEviction()
+    {
+        BoundedCache<Integer, Integer> cache = new BoundedCache<>(8);
+        for(int i = 0; i < 8; i++) cache.put(i, i);
+        cache.get(3);
+        for(int i = 8; i < 16; i++) {
+            cache.put(i, i);
+            cache.get(3);
+        }
+        assertEquals(8, cache.size());
+        assertEquals(8, cache.evictionCount());
+        assertEquals(3, cache.get(3));
+    }
+
+}
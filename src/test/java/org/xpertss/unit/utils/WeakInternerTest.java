@@ -0,0 +1,33 @@
+package org.xpertss.unit.utils;
+
+import org.junit.jupiter.api.Test;
+import xpertss.measure.UnitConverter;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static xpertss.measure.MetricPrefix.KILO;
+import static xpertss.measure.MetricPrefix.MILLI;
+import static xpertss.measure.ucum.Base.*;
+import static xpertss.measure.ucum.SI.CELSIUS;
+
+class WeakInternerTest {
+
+    @Test
+    public void testIntern()
+    {
+        WeakInterner<String> interner = new WeakInterner<>();
+        String a = new String("metre");
+        String b = new String("metre");
+        assertSame(a, interner.intern(a));
+        assertSame(a, interner.intern(b));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void testComposedConvertersAreInterned()
+    {
+        UnitConverter a = KILO(METRE).getConverterTo(MILLI(METRE)).concatenate(KELVIN.getConverterTo(CELSIUS));
+        UnitConverter b = KILO(METRE).getConverterTo(MILLI(METRE)).concatenate(KELVIN.getConverterTo(CELSIUS));
+        assertSame(a, b);
+    }
+
+}
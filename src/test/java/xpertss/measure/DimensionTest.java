@@ -0,0 +1,58 @@
+package xpertss.measure;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static xpertss.measure.Dimension.*;
+
+class DimensionTest {
+
+    @Test
+    public void testAlgebra()
+    {
+        Dimension speed = LENGTH.divide(TIME);
+        assertEquals(speed, LENGTH.multiply(TIME.pow(-1)));
+        assertEquals(speed.hashCode(), LENGTH.multiply(TIME.pow(-1)).hashCode());
+        assertEquals(NONE, speed.divide(speed));
+        assertEquals(LENGTH, LENGTH.pow(2).root(2));
+        assertEquals(MASS, MASS.root(2).multiply(MASS.root(2)));
+        assertNotEquals(LENGTH, MASS);
+        assertNotEquals(LENGTH.pow(2), LENGTH.root(2));
+        assertThrows(ArithmeticException.class, () -> LENGTH.root(0));
+    }
+
+    @Test
+    public void testBeyondPackedRange()
+    {
+        Dimension big = LENGTH.pow(100);
+        assertEquals(big, LENGTH.pow(60).multiply(LENGTH.pow(40)));
+        assertEquals(LENGTH, big.divide(LENGTH.pow(99)));
+        assertEquals(TIME.root(5).pow(5), TIME);
+        assertEquals(TIME.root(7), TIME.root(7));
+        assertNotEquals(TIME.root(7), TIME.root(5));
+    }
+
+    @Test
+    public void testBaseDimensions()
+    {
+        assertNull(LENGTH.getBaseDimensions());
+        assertTrue(NONE.getBaseDimensions().isEmpty());
+        Map<? extends Dimension, Integer> force = MASS.multiply(LENGTH).divide(TIME.pow(2)).getBaseDimensions();
+        assertEquals(3, force.size());
+        assertEquals(Integer.valueOf(1), force.get(LENGTH));
+        assertEquals(Integer.valueOf(1), force.get(MASS));
+        assertEquals(Integer.valueOf(-2), force.get(TIME));
+    }
+
+    @Test
+    public void testToString()
+    {
+        assertEquals("[L]", LENGTH.toString());
+        assertEquals("[L]·[T]^-2", LENGTH.divide(TIME.pow(2)).toString());
+        assertEquals("[M]^1/2", MASS.root(2).toString());
+        assertEquals("1", NONE.toString());
+    }
+
+}
@@ -18,6 +18,16 @@ class BaseTest {
         assertTrue(radian.isEquivalentTo(degree));
     }
 
+    @Test
+    public void testCompatibility()
+    {
+        assertTrue(KILO(METRE).isCompatible(METRE));
+        assertTrue(METRE.divide(SECOND).isCompatible(KILO(METRE).divide(SECOND)));
+        assertTrue(RADIAN.isCompatible(DEGREE));
+        assertFalse(METRE.isCompatible(SECOND));
+        assertFalse(METRE.divide(SECOND).isCompatible(METRE.multiply(SECOND)));
+    }
+
     @Test
     public void testKiloGramPrefixOutput()
     {